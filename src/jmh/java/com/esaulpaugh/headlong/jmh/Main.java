@@ -16,8 +16,18 @@
 package com.esaulpaugh.headlong.jmh;
 
 import com.esaulpaugh.headlong.jmh.abi.MeasureFunction;
+import com.esaulpaugh.headlong.jmh.abi.MeasureLogFilter;
+import com.esaulpaugh.headlong.jmh.abi.MeasureLogsBloom;
+import com.esaulpaugh.headlong.jmh.abi.MeasureMemoizedDecode;
 import com.esaulpaugh.headlong.jmh.abi.MeasurePadding;
+import com.esaulpaugh.headlong.jmh.abi.MeasureTryDecode;
 import com.esaulpaugh.headlong.jmh.rlp.MeasureKeyValuePairSort;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureNestedEncoding;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureParallelTrieRoot;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureRecordCodec;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureTransactionEnvelope;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureTrieRoot;
+import com.esaulpaugh.headlong.jmh.rlp.MeasureValidation;
 import com.esaulpaugh.headlong.jmh.util.MeasureBase64;
 import com.esaulpaugh.headlong.jmh.util.MeasureHex;
 import org.openjdk.jmh.runner.Runner;
@@ -33,7 +43,17 @@ public class Main {
         Options opt = new OptionsBuilder()
                 .include(MeasureFunction.class.getSimpleName())
                 .include(MeasureKeyValuePairSort.class.getSimpleName())
+                .include(MeasureNestedEncoding.class.getSimpleName())
+                .include(MeasureLogFilter.class.getSimpleName())
+                .include(MeasureLogsBloom.class.getSimpleName())
+                .include(MeasureMemoizedDecode.class.getSimpleName())
                 .include(MeasurePadding.class.getSimpleName())
+                .include(MeasureParallelTrieRoot.class.getSimpleName())
+                .include(MeasureRecordCodec.class.getSimpleName())
+                .include(MeasureTransactionEnvelope.class.getSimpleName())
+                .include(MeasureTrieRoot.class.getSimpleName())
+                .include(MeasureTryDecode.class.getSimpleName())
+                .include(MeasureValidation.class.getSimpleName())
                 .include(MeasureBase64.class.getSimpleName())
                 .include(MeasureHex.class.getSimpleName())
                 .warmupForks(1)
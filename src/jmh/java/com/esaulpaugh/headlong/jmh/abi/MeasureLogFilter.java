@@ -0,0 +1,114 @@
+/*
+   Copyright 2020 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.Address;
+import com.esaulpaugh.headlong.abi.LogFilterEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/**
+ * Matches 256 logs against subscriptions which each name one of 1000 addresses and one of 50 topic-0 values, with the
+ * compiled engine and with a linear scan over the subscriptions.
+ */
+@State(Scope.Thread)
+public class MeasureLogFilter {
+
+    @Param({ "100", "10000" })
+    public int subscriptions;
+
+    private LogFilterEngine engine;
+    private Address[] subAddress;
+    private byte[][] subTopic0;
+
+    private Address[] logAddresses;
+    private byte[][][] logTopics;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(subscriptions);
+        final Address[] addresses = new Address[1000];
+        for (int i = 0; i < addresses.length; i++) {
+            addresses[i] = Address.wrap(Address.toChecksumAddress(new BigInteger(160, rand)));
+        }
+        final byte[][] topics = new byte[50][32];
+        for (byte[] t : topics) {
+            rand.nextBytes(t);
+        }
+        final LogFilterEngine.Builder builder = LogFilterEngine.builder();
+        subAddress = new Address[subscriptions];
+        subTopic0 = new byte[subscriptions][];
+        for (int id = 0; id < subscriptions; id++) {
+            subAddress[id] = addresses[rand.nextInt(addresses.length)];
+            subTopic0[id] = topics[rand.nextInt(topics.length)];
+            builder.subscribe(id, List.of(subAddress[id]), List.of(List.of(subTopic0[id])));
+        }
+        engine = builder.build();
+        logAddresses = new Address[256];
+        logTopics = new byte[256][][];
+        for (int i = 0; i < logAddresses.length; i++) {
+            logAddresses[i] = i % 2 == 0 ? subAddress[rand.nextInt(subscriptions)] : addresses[rand.nextInt(addresses.length)];
+            logTopics[i] = new byte[][] { topics[rand.nextInt(topics.length)], new byte[32], new byte[32] };
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public int engine() {
+        int matches = 0;
+        for (int i = 0; i < logAddresses.length; i++) {
+            matches += engine.match(logAddresses[i], logTopics[i], id -> {});
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public int linear() {
+        final List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < logAddresses.length; i++) {
+            for (int id = 0; id < subscriptions; id++) {
+                if (subAddress[id].equals(logAddresses[i]) && Arrays.equals(subTopic0[id], logTopics[i][0])) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids.size();
+    }
+}
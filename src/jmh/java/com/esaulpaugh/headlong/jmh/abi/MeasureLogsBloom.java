@@ -0,0 +1,134 @@
+/*
+   Copyright 2020 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.Address;
+import com.esaulpaugh.headlong.abi.LogsBloom;
+import com.joemelsha.crypto.hash.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/**
+ * Builds the bloom of a synthetic block of 200 receipts with two logs of three topics each, and matches a filter of four
+ * addresses and four topics against 1024 block blooms, with precompiled masks and with per-test hashing.
+ */
+@State(Scope.Thread)
+public class MeasureLogsBloom {
+
+    private static final int RECEIPTS = 200;
+    private static final int BLOCKS = 1024;
+
+    private final LogsBloom receipt = new LogsBloom();
+    private final LogsBloom block = new LogsBloom();
+    private Address[] logAddresses;
+    private byte[][][] logTopics;
+
+    private byte[][] blockBlooms;
+    private byte[][] queryEntries;
+    private LogsBloom.Mask[] queryMasks;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(2048L);
+        logAddresses = new Address[RECEIPTS * 2];
+        logTopics = new byte[RECEIPTS * 2][3][32];
+        for (int i = 0; i < logAddresses.length; i++) {
+            logAddresses[i] = Address.wrap(Address.toChecksumAddress(new BigInteger(160, rand)));
+            for (byte[] topic : logTopics[i]) {
+                rand.nextBytes(topic);
+            }
+        }
+        blockBlooms = new byte[BLOCKS][];
+        for (int b = 0; b < BLOCKS; b++) {
+            final LogsBloom bloom = new LogsBloom();
+            for (int i = 0; i < 40; i++) {
+                final byte[] entry = new byte[32];
+                rand.nextBytes(entry);
+                bloom.add(entry);
+            }
+            blockBlooms[b] = bloom.toBytes();
+        }
+        queryEntries = new byte[8][];
+        queryMasks = new LogsBloom.Mask[8];
+        for (int q = 0; q < queryEntries.length; q++) {
+            queryEntries[q] = q < 4 ? logAddresses[q * 7].toBytes() : logTopics[q][0];
+            queryMasks[q] = LogsBloom.mask(queryEntries[q]);
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public LogsBloom buildBlock() {
+        block.reset();
+        for (int r = 0; r < RECEIPTS; r++) {
+            receipt.reset();
+            receipt.addLog(logAddresses[2 * r], logTopics[2 * r]);
+            receipt.addLog(logAddresses[2 * r + 1], logTopics[2 * r + 1]);
+            block.or(receipt);
+        }
+        return block;
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public void matchMasks(Blackhole bh) {
+        for (byte[] bloom : blockBlooms) {
+            for (LogsBloom.Mask mask : queryMasks) {
+                bh.consume(mask.test(bloom, 0));
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public void matchNaive(Blackhole bh) {
+        final Keccak keccak = new Keccak(256);
+        for (byte[] bloom : blockBlooms) {
+            for (byte[] entry : queryEntries) {
+                final byte[] h = keccak.digest(entry);
+                boolean match = true;
+                for (int i = 0; i < 6; i += 2) {
+                    final int bit = ((h[i] & 7) << 8) | (h[i + 1] & 0xFF);
+                    match &= (bloom[LogsBloom.BYTES - 1 - (bit >>> 3)] & (1 << (bit & 7))) != 0;
+                }
+                bh.consume(match);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+   Copyright 2020 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.DecodeMemo;
+import com.esaulpaugh.headlong.abi.Tuple;
+import com.esaulpaugh.headlong.abi.TupleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/**
+ * Decodes a {@code (string,uint256)[]} of 1024 elements whose 1024 offsets point at only 16 distinct 256-byte tail
+ * regions, with and without memoization.
+ */
+@State(Scope.Thread)
+public class MeasureMemoizedDecode {
+
+    private static final int LENGTH = 1024;
+    private static final int DISTINCT = 16;
+    private static final int WORD = 32;
+
+    private final TupleType<Tuple> type = TupleType.parse("((string,uint256)[])");
+    private final DecodeMemo memo = new DecodeMemo();
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final int tupleLen = WORD * 3 + 256; // offset, uint256, length, data
+        final int tailStart = WORD * (2 + LENGTH);
+        final ByteBuffer bb = ByteBuffer.allocate(tailStart + DISTINCT * tupleLen);
+        putWord(bb, 0, WORD);
+        putWord(bb, 1, LENGTH);
+        for (int i = 0; i < LENGTH; i++) {
+            putWord(bb, 2 + i, LENGTH * WORD + (i % DISTINCT) * tupleLen);
+        }
+        for (int d = 0; d < DISTINCT; d++) {
+            final int word = (tailStart + d * tupleLen) / WORD;
+            putWord(bb, word, WORD * 2);
+            putWord(bb, word + 1, d);
+            putWord(bb, word + 2, 256);
+            for (int j = 0; j < 256; j++) {
+                bb.put((word + 3) * WORD + j, (byte) ('a' + (j + d) % 26));
+            }
+        }
+        encoded = bb.array();
+    }
+
+    private static void putWord(ByteBuffer bb, int wordIndex, long val) {
+        bb.putLong(wordIndex * WORD + WORD - Long.BYTES, val);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public Tuple decode() {
+        return type.decode(encoded);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public Tuple decodeMemoized() {
+        return type.decode(encoded, memo);
+    }
+}
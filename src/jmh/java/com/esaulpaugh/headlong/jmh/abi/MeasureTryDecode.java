@@ -0,0 +1,92 @@
+/*
+   Copyright 2020 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.abi;
+
+import com.esaulpaugh.headlong.abi.Address;
+import com.esaulpaugh.headlong.abi.Function;
+import com.esaulpaugh.headlong.abi.Tuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/**
+ * Attempts to decode 1024 call data blobs as a nested call, half of which are rejected deep within the arguments, by
+ * catching the exception thrown by {@code decodeCall} and via {@code tryDecodeCall}.
+ */
+@State(Scope.Thread)
+public class MeasureTryDecode {
+
+    private static final int CALLS = 1024;
+
+    private final Function f = Function.parse("batch((address,uint32,bool)[],uint8)");
+    private byte[][] calls;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(2048L);
+        calls = new byte[CALLS][];
+        for (int c = 0; c < CALLS; c++) {
+            final Tuple[] transfers = new Tuple[8];
+            for (int i = 0; i < transfers.length; i++) {
+                transfers[i] = Tuple.of(Address.wrap(Address.toChecksumAddress(new BigInteger(160, rand))), rand.nextInt() & 0xFFFFFFFFL, rand.nextBoolean());
+            }
+            final byte[] call = f.encodeCallWithArgs(transfers, 1).array();
+            if ((c & 1) != 0) {
+                call[call.length - 32 - 1] = 2; // the last bool
+            }
+            calls[c] = call;
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public void decodeCatch(Blackhole blackhole) {
+        for (byte[] call : calls) {
+            try {
+                blackhole.consume(f.decodeCall(call));
+            } catch (IllegalArgumentException iae) {
+                blackhole.consume(iae);
+            }
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public void tryDecode(Blackhole blackhole) {
+        for (byte[] call : calls) {
+            blackhole.consume(f.tryDecodeCall(call));
+        }
+    }
+}
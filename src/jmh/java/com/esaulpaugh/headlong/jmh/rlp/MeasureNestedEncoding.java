@@ -0,0 +1,128 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.util.Integers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Compares {@link RLPEncoder#list(Object...)} against an encoder which re-measures every nested list as it is written. */
+@State(Scope.Thread)
+public class MeasureNestedEncoding {
+
+    private static final int STRINGS_PER_LEVEL = 8;
+
+    @Param({ "1", "8", "64", "256" })
+    public int depth;
+
+    private Object[] tree;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(depth);
+        Object[] node = new Object[0];
+        for (int d = 0; d < depth; d++) {
+            final Object[] parent = new Object[STRINGS_PER_LEVEL + 1];
+            for (int i = 0; i < STRINGS_PER_LEVEL; i++) {
+                final byte[] str = new byte[rand.nextInt(40)];
+                rand.nextBytes(str);
+                parent[i] = str;
+            }
+            parent[STRINGS_PER_LEVEL] = node;
+            node = parent;
+        }
+        tree = node;
+        if (!Arrays.equals(RLPEncoder.list(tree), Remeasuring.list(tree))) {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] memoized() {
+        return RLPEncoder.list(tree);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] remeasuring() {
+        return Remeasuring.list(tree);
+    }
+
+    /* the previous algorithm: O(depth * n) because each nested list is measured again when it is written */
+    private static final class Remeasuring {
+
+        static byte[] list(Object[] elements) {
+            final int dataLen = sumEncodedLen(elements);
+            final ByteBuffer bb = ByteBuffer.allocate(itemLen(dataLen));
+            encodeList(dataLen, elements, bb);
+            return bb.array();
+        }
+
+        private static int itemLen(int dataLen) {
+            return (dataLen < 56 ? 1 : 1 + Integers.len(dataLen)) + dataLen;
+        }
+
+        private static int sumEncodedLen(Object[] items) {
+            int sum = 0;
+            for (Object raw : items) {
+                sum += raw instanceof byte[]
+                        ? itemLen(((byte[]) raw).length == 1 && ((byte[]) raw)[0] >= 0 ? 0 : ((byte[]) raw).length)
+                        : itemLen(sumEncodedLen((Object[]) raw));
+            }
+            return sum;
+        }
+
+        private static void encodeList(int dataLen, Object[] elements, ByteBuffer bb) {
+            if (dataLen < 56) {
+                bb.put((byte) (0xc0 + dataLen));
+            } else {
+                bb.put((byte) (0xf7 + Integers.len(dataLen)));
+                Integers.putLong(dataLen, bb);
+            }
+            for (Object raw : elements) {
+                if (raw instanceof byte[]) {
+                    RLPEncoder.putString((byte[]) raw, bb);
+                } else {
+                    final Object[] list = (Object[]) raw;
+                    encodeList(sumEncodedLen(list), list, bb);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.TrieRootBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Measures {@link TrieRootBuilder#root(List, List, ForkJoinPool)} on state-trie-like keys across pool sizes. */
+@State(Scope.Thread)
+public class MeasureParallelTrieRoot {
+
+    private static final int SIZE = 65_536;
+
+    @Param({ "1", "2", "4", "8" })
+    public int threads;
+
+    private ForkJoinPool pool;
+    private List<byte[]> keys;
+    private List<byte[]> values;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(SIZE);
+        final TreeSet<byte[]> sorted = new TreeSet<>(Arrays::compareUnsigned);
+        while (sorted.size() < SIZE) {
+            final byte[] key = new byte[32];
+            rand.nextBytes(key);
+            sorted.add(key);
+        }
+        keys = new ArrayList<>(sorted);
+        values = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final byte[] account = new byte[70 + rand.nextInt(10)];
+            rand.nextBytes(account);
+            values.add(account);
+        }
+        pool = new ForkJoinPool(threads);
+        if (!Arrays.equals(sequential(), parallel())) {
+            throw new AssertionError();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] parallel() {
+        return TrieRootBuilder.root(keys, values, pool);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] sequential() {
+        final TrieRootBuilder builder = new TrieRootBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            builder.put(keys.get(i), values.get(i));
+        }
+        return builder.root();
+    }
+}
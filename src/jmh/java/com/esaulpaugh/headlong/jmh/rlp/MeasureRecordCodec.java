@@ -0,0 +1,133 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.esaulpaugh.headlong.rlp.RLPRecordCodec;
+import com.esaulpaugh.headlong.util.Integers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Compares {@link RLPRecordCodec} against hand-written {@code Object[]}-based encoding and iterator-based decoding. */
+@State(Scope.Thread)
+public class MeasureRecordCodec {
+
+    public record LegacyTx(long nonce, BigInteger gasPrice, long gasLimit, byte[] to, BigInteger value, byte[] data,
+                           long v, BigInteger r, BigInteger s) {}
+
+    private static final RLPRecordCodec<LegacyTx> CODEC = RLPRecordCodec.of(LegacyTx.class);
+
+    private LegacyTx tx;
+    private byte[] rlp;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(3L);
+        final byte[] to = new byte[20];
+        final byte[] data = new byte[68];
+        rand.nextBytes(to);
+        rand.nextBytes(data);
+        tx = new LegacyTx(
+                rand.nextInt(1 << 20),
+                BigInteger.valueOf(rand.nextLong() >>> 20),
+                21_000 + rand.nextInt(1_000_000),
+                to,
+                new BigInteger(80, rand),
+                data,
+                37L,
+                new BigInteger(256, rand),
+                new BigInteger(255, rand)
+        );
+        rlp = CODEC.encode(tx);
+        if (!Arrays.equals(rlp, encodeObjectArray()) || !Arrays.equals(rlp, CODEC.encode(decodeIterator()))) {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] encodeCodec() {
+        return CODEC.encode(tx);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] encodeObjectArray() {
+        return RLPEncoder.list(
+                Integers.toBytes(tx.nonce()),
+                Integers.toBytesUnsigned(tx.gasPrice()),
+                Integers.toBytes(tx.gasLimit()),
+                tx.to(),
+                Integers.toBytesUnsigned(tx.value()),
+                tx.data(),
+                Integers.toBytes(tx.v()),
+                Integers.toBytesUnsigned(tx.r()),
+                Integers.toBytesUnsigned(tx.s())
+        );
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public LegacyTx decodeCodec() {
+        return CODEC.decode(rlp);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public LegacyTx decodeIterator() {
+        final Iterator<RLPItem> iter = RLPDecoder.RLP_STRICT.listIterator(rlp);
+        return new LegacyTx(
+                iter.next().asLong(),
+                iter.next().asBigInt(),
+                iter.next().asLong(),
+                iter.next().asBytes(),
+                iter.next().asBigInt(),
+                iter.next().asBytes(),
+                iter.next().asLong(),
+                iter.next().asBigInt(),
+                iter.next().asBigInt()
+        );
+    }
+}
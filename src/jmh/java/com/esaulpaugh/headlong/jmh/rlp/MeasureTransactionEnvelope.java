@@ -0,0 +1,108 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.esaulpaugh.headlong.rlp.TransactionEnvelope;
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Compares computing the signing hash of an EIP-1559 transaction in place against decoding and re-encoding it. */
+@State(Scope.Thread)
+public class MeasureTransactionEnvelope {
+
+    private final Keccak keccak = new Keccak(256);
+    private byte[] raw;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(1559L);
+        final byte[] data = new byte[4 + 32 * 6];
+        rand.nextBytes(data);
+        final byte[] key = new byte[32];
+        rand.nextBytes(key);
+        final List<Object> fields = List.of(
+                Integers.toBytes(1L), Integers.toBytes(4096L), Integers.toBytes(2_000_000_000L),
+                Integers.toBytes(90_000_000_000L), Integers.toBytes(210_000L), Arrays.copyOf(data, 20),
+                Integers.toBytes(123_456_789_000L), data, List.of(List.of(Arrays.copyOf(key, 20), List.of(key))),
+                Integers.toBytes(1L), key, key
+        );
+        final byte[] payload = RLPEncoder.list(fields);
+        raw = new byte[1 + payload.length];
+        raw[0] = TransactionEnvelope.DYNAMIC_FEE;
+        System.arraycopy(payload, 0, raw, 1, payload.length);
+        if (!Arrays.equals(inPlace(), reencode())) {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] inPlace() {
+        return TransactionEnvelope.wrap(raw).signingHash(keccak);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] reencode() {
+        final List<RLPItem> elements = RLPDecoder.RLP_STRICT.wrapList(raw, 1).elements();
+        final List<Object> unsigned = new ArrayList<>(elements.size() - 3);
+        for (int i = 0; i < elements.size() - 3; i++) {
+            final RLPItem e = elements.get(i);
+            unsigned.add(e.isList() ? toObjects(e) : e.asBytes());
+        }
+        final byte[] payload = RLPEncoder.list(unsigned);
+        keccak.update(raw[0]);
+        keccak.update(payload);
+        return keccak.digest();
+    }
+
+    private static Object toObjects(RLPItem item) {
+        if (item.isString()) {
+            return item.asBytes();
+        }
+        final List<Object> out = new ArrayList<>();
+        for (RLPItem e : item.asRLPList().elements()) {
+            out.add(toObjects(e));
+        }
+        return out;
+    }
+}
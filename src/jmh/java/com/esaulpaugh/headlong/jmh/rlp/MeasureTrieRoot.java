@@ -0,0 +1,162 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.rlp.RLPWriter;
+import com.esaulpaugh.headlong.rlp.TrieRootBuilder;
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Compares {@link TrieRootBuilder#orderedRoot(List)} against a trie which is fully materialized before hashing. */
+@State(Scope.Thread)
+public class MeasureTrieRoot {
+
+    @Param({ "16", "256", "4096" })
+    public int size;
+
+    private List<byte[]> values;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(size);
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final byte[] tx = new byte[100 + rand.nextInt(200)];
+            rand.nextBytes(tx);
+            values.add(tx);
+        }
+        if (!Arrays.equals(TrieRootBuilder.orderedRoot(values), naive())) {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] streaming() {
+        return TrieRootBuilder.orderedRoot(values);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public byte[] naive() {
+        final NaiveNode root = new NaiveNode();
+        for (int i = 0; i < values.size(); i++) {
+            root.put(nibbles(RLPEncoder.string(Integers.toBytes(i))), 0, values.get(i));
+        }
+        return new Keccak(256).digest(root.encode(new ArrayList<>()));
+    }
+
+    private static byte[] nibbles(byte[] key) {
+        final byte[] n = new byte[key.length * 2];
+        for (int i = 0; i < key.length; i++) {
+            n[2 * i] = (byte) ((key[i] >> 4) & 0xf);
+            n[2 * i + 1] = (byte) (key[i] & 0xf);
+        }
+        return n;
+    }
+
+    /* an uncompressed 16-ary trie with one node per nibble; paths are compressed only while encoding */
+    private static final class NaiveNode {
+
+        final NaiveNode[] children = new NaiveNode[16];
+        byte[] value;
+
+        void put(byte[] key, int pos, byte[] val) {
+            if (pos == key.length) {
+                value = val;
+                return;
+            }
+            NaiveNode child = children[key[pos]];
+            if (child == null) {
+                children[key[pos]] = child = new NaiveNode();
+            }
+            child.put(key, pos + 1, val);
+        }
+
+        int onlyChild() {
+            int idx = -1;
+            for (int i = 0; i < 16; i++) {
+                if (children[i] != null) {
+                    if (idx >= 0) return -2;
+                    idx = i;
+                }
+            }
+            return idx;
+        }
+
+        byte[] encode(List<Byte> path) {
+            NaiveNode n = this;
+            int only;
+            while (n.value == null && (only = n.onlyChild()) >= 0) {
+                path.add((byte) only);
+                n = n.children[only];
+            }
+            final RLPWriter w = new RLPWriter().beginList();
+            if (n.value != null) {
+                return w.writeString(hexPrefix(path, true)).writeString(n.value).endList().toByteArray();
+            }
+            if (!path.isEmpty()) {
+                final byte[] branch = n.encode(new ArrayList<>());
+                return w.writeString(hexPrefix(path, false)).writeItem(RLPDecoder.RLP_STRICT.wrapItem(ref(branch))).endList().toByteArray();
+            }
+            for (NaiveNode c : n.children) {
+                w.writeItem(RLPDecoder.RLP_STRICT.wrapItem(c == null ? RLPEncoder.string(new byte[0]) : ref(c.encode(new ArrayList<>()))));
+            }
+            return w.writeString(new byte[0]).endList().toByteArray();
+        }
+
+        private static byte[] ref(byte[] encoding) {
+            return encoding.length < 32 ? encoding : RLPEncoder.string(new Keccak(256).digest(encoding));
+        }
+
+        private static byte[] hexPrefix(List<Byte> path, boolean leaf) {
+            final int len = path.size();
+            final byte[] out = new byte[len / 2 + 1];
+            int i = 0;
+            out[0] = (byte) ((leaf ? 0x20 : 0) | ((len & 1) != 0 ? 0x10 | path.get(i++) : 0));
+            for (int j = 1; i < len; i += 2) {
+                out[j++] = (byte) ((path.get(i) << 4) | path.get(i + 1));
+            }
+            return out;
+        }
+    }
+}
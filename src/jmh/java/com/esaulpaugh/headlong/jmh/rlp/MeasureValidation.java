@@ -0,0 +1,94 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.jmh.rlp;
+
+import com.esaulpaugh.headlong.rlp.RLPDecoder;
+import com.esaulpaugh.headlong.rlp.RLPEncoder;
+import com.esaulpaugh.headlong.rlp.RLPItem;
+import com.esaulpaugh.headlong.rlp.RLPValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.jmh.Main.THREE;
+
+/** Compares prefix-only validation against wrapping and iterating every item. */
+@State(Scope.Thread)
+public class MeasureValidation {
+
+    private byte[] message;
+    private RLPValidator validator;
+
+    @Setup(Level.Trial)
+    public void init() {
+        final Random rand = new Random(2L);
+        final Object[] txs = new Object[200];
+        for (int i = 0; i < txs.length; i++) {
+            final Object[] tx = new Object[9];
+            for (int j = 0; j < tx.length; j++) {
+                final byte[] field = new byte[rand.nextInt(j == 5 ? 200 : 33)];
+                rand.nextBytes(field);
+                tx[j] = field;
+            }
+            txs[i] = tx;
+        }
+        message = RLPEncoder.list(new Object[] { new byte[32], txs, new Object[0] });
+        validator = RLPDecoder.RLP_STRICT.validator(16, 1 << 16, 1 << 24);
+        if (validator.validate(message, 0, message.length) != wrapAndIterate()) {
+            throw new AssertionError();
+        }
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public int validate() {
+        return validator.validate(message, 0, message.length);
+    }
+
+    @Benchmark
+    @Fork(value = 1, warmups = 1)
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = THREE)
+    public int wrapAndIterate() {
+        return count(RLPDecoder.RLP_STRICT.sequenceIterator(message));
+    }
+
+    private static int count(Iterator<RLPItem> iter) {
+        int count = 0;
+        while (iter.hasNext()) {
+            final RLPItem item = iter.next();
+            count++;
+            if (item.isList()) {
+                count += count(item.asRLPList().iterator());
+            }
+        }
+        return count;
+    }
+}
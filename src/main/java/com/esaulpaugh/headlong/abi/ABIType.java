@@ -228,19 +228,115 @@ public abstract class ABIType<J> {
     }
 
     J decode(byte[] buffer, int offset, int len) {
+        return decode(buffer, offset, len, null);
+    }
+
+    J decode(byte[] buffer, int offset, int len, DecodeContext ctx) {
         ByteBuffer bb = ByteBuffer.wrap(buffer, offset, len);
-        J decoded = decode(bb);
+        J decoded = decode(bb, newUnitBuffer(), ctx);
         final int remaining = bb.remaining();
         if (remaining == 0) {
             return decoded;
         }
-        throw new IllegalArgumentException("unconsumed bytes: " + remaining + " remaining");
+        throw DecodeException.create(DecodeResult.Status.UNCONSUMED_BYTES, () -> "unconsumed bytes: " + remaining + " remaining");
     }
 
     public final J decode(ByteBuffer buffer) {
         return decode(buffer, newUnitBuffer());
     }
 
+    /**
+     * Like {@link #decode(byte[])} but fails if the encoding describes more elements, bytes or nesting than
+     * {@code budget} allows.
+     *
+     * @param array the encoded data
+     * @param budget    the limits on what may be materialized
+     * @return the decoded value
+     * @throws IllegalArgumentException if the data is malformed or exceeds the budget
+     */
+    public final J decode(byte[] array, DecodeBudget budget) {
+        return decode(array, 0, array.length, new DecodeContext(budget));
+    }
+
+    /**
+     * Like {@link #decode(ByteBuffer)} but fails if the encoding describes more elements, bytes or nesting than
+     * {@code budget} allows. Checks are made as each array or tuple is encountered, before its storage is allocated.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @param budget    the limits on what may be materialized
+     * @return the decoded value
+     * @throws IllegalArgumentException if the data is malformed or exceeds the budget
+     */
+    public final J decode(ByteBuffer buffer, DecodeBudget budget) {
+        return decode(buffer, newUnitBuffer(), new DecodeContext(budget));
+    }
+
+    /**
+     * Like {@link #decode(byte[])} but decodes each dynamic value referenced more than once at the same offset only
+     * once, sharing the result.
+     *
+     * @param array the encoded data
+     * @param memo  the memo, which is cleared before use and whose statistics are updated
+     * @return the decoded value, which may contain shared instances
+     * @throws IllegalArgumentException if the data is malformed
+     */
+    public final J decode(byte[] array, DecodeMemo memo) {
+        return decode(array, 0, array.length, new DecodeContext(null, memo));
+    }
+
+    /**
+     * Like {@link #decode(ByteBuffer)} but memoizes decoded dynamic values by type and absolute offset, so that a tail
+     * region to which several offsets point is decoded once and the same object is returned for each reference.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @param memo  the memo, which is cleared before use and whose statistics are updated
+     * @return the decoded value, which may contain shared instances
+     * @throws IllegalArgumentException if the data is malformed
+     * @see DecodeMemo
+     */
+    public final J decode(ByteBuffer buffer, DecodeMemo memo) {
+        return decode(buffer, newUnitBuffer(), new DecodeContext(null, memo));
+    }
+
+    /**
+     * Like {@link #decode(byte[])} but reports malformed input via the returned {@link DecodeResult} instead of by
+     * throwing. Intended for callers which expect most of their inputs to be rejected.
+     *
+     * @param array the encoded data
+     * @return  the decoded value or the reason for failure
+     */
+    public final DecodeResult<J> tryDecode(byte[] array) {
+        return DecodeException.quietly(null, () -> decode(array, 0, array.length));
+    }
+
+    /**
+     * Like {@link #decode(ByteBuffer)} but reports malformed input via the returned {@link DecodeResult} instead of by
+     * throwing. On failure, the buffer's position is restored.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @return  the decoded value or the reason for failure
+     */
+    public final DecodeResult<J> tryDecode(ByteBuffer buffer) {
+        return DecodeException.quietly(buffer, () -> decode(buffer, newUnitBuffer()));
+    }
+
+    /** @see #decode(byte[], DecodeBudget) */
+    public final DecodeResult<J> tryDecode(byte[] array, DecodeBudget budget) {
+        return DecodeException.quietly(null, () -> decode(array, budget));
+    }
+
+    /**
+     * Like {@link #decode(ByteBuffer, DecodeBudget)} but reports malformed input and exceeded budgets via the returned
+     * {@link DecodeResult} instead of by throwing. On failure, the buffer's position is restored.
+     *
+     * @param buffer    the buffer containing the encoded data
+     * @param budget    the limits on what may be materialized
+     * @return  the decoded value or the reason for failure
+     */
+    public final DecodeResult<J> tryDecode(ByteBuffer buffer, DecodeBudget budget) {
+        return DecodeException.quietly(buffer, () -> decode(buffer, budget));
+    }
+
     /**
      * Decodes the data at the buffer's current position according to this {@link ABIType}.
      *
@@ -251,6 +347,14 @@ public abstract class ABIType<J> {
      */
     abstract J decode(ByteBuffer buffer, byte[] unitBuffer);
 
+    /**
+     * As {@link #decode(ByteBuffer, byte[])}, additionally charging whatever is materialized to {@code ctx}, if
+     * non-null. Overridden by the container types.
+     */
+    J decode(ByteBuffer buffer, byte[] unitBuffer, DecodeContext ctx) {
+        return decode(buffer, unitBuffer);
+    }
+
     @SuppressWarnings("unchecked")
     public final J decodePacked(byte[] buffer) {
         PackedDecoder.checkDynamics(this);
@@ -36,7 +36,10 @@ public final class Address {
     private static final int HEX_RADIX = 16;
     public static final int MAX_LABEL_LEN = 36;
 
-    private final BigInteger value;
+    /* the 160-bit value, big-endian: the high 32 bits, the middle 64 bits, and the low 64 bits */
+    final int hi;
+    final long mid;
+    final long lo;
 
     /**
      * An informational String identifying or describing this Address.
@@ -44,16 +47,63 @@ public final class Address {
     private final String label;
 
     Address(BigInteger value) {
-        this(value, null);
+        AddressType.INSTANCE.validateBigInt(value);
+        this.hi = value.shiftRight(Long.SIZE * 2).intValue();
+        this.mid = value.shiftRight(Long.SIZE).longValue();
+        this.lo = value.longValue();
+        this.label = null;
     }
 
-    private Address(BigInteger value, String label) {
-        this.value = value;
+    Address(int hi, long mid, long lo) {
+        this(hi, mid, lo, null);
+    }
+
+    private Address(int hi, long mid, long lo, String label) {
+        this.hi = hi;
+        this.mid = mid;
+        this.lo = lo;
         this.label = label;
     }
 
+    /**
+     * Returns the value of this address as a non-negative {@link BigInteger}. A new instance is created on each call.
+     *
+     * @return  the value
+     */
     public BigInteger value() {
-        return value;
+        return new BigInteger(1, toBytes());
+    }
+
+    /**
+     * Returns the 20-byte big-endian representation of this address.
+     *
+     * @return  a new array of length 20
+     */
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[ADDRESS_DATA_BYTES];
+        putBytes(bytes, 0);
+        return bytes;
+    }
+
+    void putBytes(byte[] dest, int idx) {
+        idx = put(hi, Integer.BYTES, dest, idx);
+        idx = put(mid, Long.BYTES, dest, idx);
+        put(lo, Long.BYTES, dest, idx);
+    }
+
+    private static int put(long val, int len, byte[] dest, int idx) {
+        for (int shift = (len - 1) * Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            dest[idx++] = (byte) (val >>> shift);
+        }
+        return idx;
+    }
+
+    private static long get(byte[] src, int idx, int len) {
+        long val = 0L;
+        for (final int end = idx + len; idx < end; idx++) {
+            val = (val << Byte.SIZE) | (src[idx] & 0xFFL);
+        }
+        return val;
     }
 
     public String getLabel() {
@@ -62,44 +112,51 @@ public final class Address {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * (31 * hi + Long.hashCode(mid)) + Long.hashCode(lo);
     }
 
     @Override
     public boolean equals(Object o) {
         if (o instanceof Address) {
             Address other = (Address) o;
-            return value.equals(other.value);
+            return lo == other.lo && mid == other.mid && hi == other.hi;
         }
         return false;
     }
 
     @Override
     public String toString() {
-        return toChecksumAddress(value);
+        final byte[] data = toBytes();
+        final byte[] addressBytes = new byte[ADDRESS_LEN_CHARS];
+        addressBytes[0] = '0';
+        addressBytes[1] = 'x';
+        FastHex.encodeBytes(data, 0, data.length, addressBytes, PREFIX_LEN);
+        return doChecksum(addressBytes);
     }
 
     public static Address wrap(final String checksumAddress) {
-        return new Address(validateAndDecodeAddress(checksumAddress));
+        return wrap(checksumAddress, null);
     }
 
     public static Address wrap(final String checksumAddress, final String label) {
         if (label != null && label.length() > MAX_LABEL_LEN) {
             throw new IllegalArgumentException("label length exceeds maximum: " + label.length() + " > " + MAX_LABEL_LEN);
         }
-        return new Address(validateAndDecodeAddress(checksumAddress), label);
-    }
-
-    private static BigInteger validateAndDecodeAddress(final String checksumAddress) {
         validateChecksumAddress(checksumAddress);
-        return new BigInteger(1, FastHex.decode(checksumAddress, PREFIX_LEN, ADDRESS_HEX_CHARS));
+        final byte[] data = FastHex.decode(checksumAddress, PREFIX_LEN, ADDRESS_HEX_CHARS);
+        return new Address(
+                (int) get(data, 0, Integer.BYTES),
+                get(data, Integer.BYTES, Long.BYTES),
+                get(data, Integer.BYTES + Long.BYTES, Long.BYTES),
+                label
+        );
     }
 
     public Address withLabel(final String label) {
         if (this.label != null) {
             throw new IllegalArgumentException("labeling aborted because existing label not null");
         }
-        return new Address(this.value, label);
+        return new Address(this.hi, this.mid, this.lo, label);
     }
 
     public static void validateChecksumAddress(final String checksumAddress) {
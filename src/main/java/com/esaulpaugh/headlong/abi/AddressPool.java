@@ -0,0 +1,64 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+/**
+ * A fixed-capacity, direct-mapped interning pool for {@link Address} instances. Frequently seen addresses tend to stay
+ * resident while rarely seen ones are evicted by collisions. Because {@link Address} is immutable, instances may be
+ * shared across threads without synchronization; a lost race merely costs a cache miss.
+ * <p>
+ * Note that labels are not considered by {@link Address#equals(Object)}, so the canonical instance returned may carry
+ * a different label than the argument.
+ */
+public final class AddressPool {
+
+    private final Address[] slots;
+    private final int mask;
+
+    /**
+     * @param capacity  the number of slots, which will be rounded up to the nearest power of two
+     */
+    public AddressPool(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("bad capacity: " + capacity);
+        }
+        final int len = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new Address[len];
+        this.mask = len - 1;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the pooled instance equal to {@code address} if there is one. Otherwise, pools {@code address}, replacing
+     * any colliding entry, and returns it.
+     *
+     * @param address   the address to intern
+     * @return  a canonical instance equal to the argument
+     */
+    public Address intern(Address address) {
+        final int h = address.hashCode();
+        final int idx = (h ^ (h >>> 16)) & mask;
+        final Address pooled = slots[idx];
+        if (address.equals(pooled)) {
+            return pooled;
+        }
+        slots[idx] = address;
+        return address;
+    }
+}
@@ -20,7 +20,12 @@ import com.esaulpaugh.headlong.util.Strings;
 
 import java.lang.reflect.Array;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.esaulpaugh.headlong.abi.TupleType.countBytes;
 import static com.esaulpaugh.headlong.abi.TupleType.totalLen;
@@ -157,7 +162,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         return decodeIfString(value).length;
     }
 
-    private byte[] decodeIfString(Object value) {
+    byte[] decodeIfString(Object value) {
         return !isString() ? (byte[]) value : Strings.decode((String) value, Strings.UTF_8);
     }
 
@@ -368,10 +373,30 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     A decode(ByteBuffer bb, byte[] unitBuffer) {
+        return decode(bb, unitBuffer, null);
+    }
+
+    @Override
+    A decode(ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
         final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decode(bb, unitBuffer) : length;
         checkNoDecodePossible(bb.remaining(), arrayLen);
+        if (ctx == null) {
+            return decodeElements(arrayLen, bb, unitBuffer, null);
+        }
+        ctx.enter();
+        if (elementType instanceof ByteType) {
+            ctx.chargeBytes(arrayLen);
+        } else {
+            ctx.chargeElements(arrayLen);
+        }
+        final A decoded = decodeElements(arrayLen, bb, unitBuffer, ctx);
+        ctx.exit();
+        return decoded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private A decodeElements(int arrayLen, ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
         return (A) switch (elementType.typeCode()) {
             case TYPE_CODE_BOOLEAN -> decodeBooleans(arrayLen, bb, unitBuffer);
             case TYPE_CODE_BYTE -> encodeIfString(decodeBytes(arrayLen, bb, (flags & ABIType.FLAG_LEGACY_DECODE) != 0));
@@ -381,7 +406,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
                  TYPE_CODE_BIG_DECIMAL,
                  TYPE_CODE_ARRAY,
                  TYPE_CODE_TUPLE,
-                 TYPE_CODE_ADDRESS -> decodeObjects(arrayLen, bb, unitBuffer);
+                 TYPE_CODE_ADDRESS -> decodeObjects(arrayLen, bb, unitBuffer, ctx);
             default -> throw new AssertionError();
         };
     }
@@ -400,10 +425,44 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
                                                 ? arrayLen
                                                 : Integers.roundLengthUp(arrayLen, UNIT_LENGTH_BYTES);
         if (remaining < minByteLen) {
-            throw new IllegalArgumentException("not enough bytes remaining: " + remaining + " < " + minByteLen);
+            throw DecodeException.create(DecodeResult.Status.INSUFFICIENT_DATA, () -> "not enough bytes remaining: " + remaining + " < " + minByteLen);
         }
     }
 
+    /**
+     * Returns an iterator which decodes the elements of the array encoded at the buffer's current position one at a
+     * time, for arrays too large to materialize at once. The length, if dynamic, is read immediately; each offset and
+     * element is read only when reached. The buffer's position is not modified and its contents must not change while
+     * the iterator is in use. Elements of {@code bytes} and {@code string} are individual bytes.
+     *
+     * @param buffer    the buffer containing the encoded array
+     * @return  the iterator
+     * @throws IllegalArgumentException if the length is malformed or the buffer is obviously too short
+     */
+    public Iterator<E> iterate(ByteBuffer buffer) {
+        return Spliterators.iterator(spliterator(buffer));
+    }
+
+    /**
+     * Returns a sequential {@link Stream} of the elements of the array encoded at the buffer's current position, decoded
+     * one at a time as in {@link #iterate(ByteBuffer)}. The stream's spliterator splits by index range, so the stream
+     * may be made parallel.
+     *
+     * @param buffer    the buffer containing the encoded array
+     * @return  the stream
+     * @throws IllegalArgumentException if the length is malformed or the buffer is obviously too short
+     */
+    public Stream<E> stream(ByteBuffer buffer) {
+        return StreamSupport.stream(spliterator(buffer), false);
+    }
+
+    private Spliterator<E> spliterator(ByteBuffer buffer) {
+        final ByteBuffer bb = buffer.duplicate();
+        final int arrayLen = length == DYNAMIC_LENGTH ? IntType.UINT21.decode(bb, ABIType.newUnitBuffer()) : length;
+        checkNoDecodePossible(bb.remaining(), arrayLen);
+        return new ElementSpliterator<>(elementType, bb, bb.position(), 0, arrayLen);
+    }
+
     private static boolean[] decodeBooleans(int len, ByteBuffer bb, byte[] unitBuffer) {
         final boolean[] booleans = new boolean[len]; // elements are false by default
         int i = 0;
@@ -423,17 +482,21 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         if (!legacyDecode) {
             int bytes = -len & 31; // Integers.roundLengthUp(len, UNIT_LENGTH_BYTES) - len; // (32 - (len & 31)) & 31;
             while (bytes >= Long.BYTES) {
-                if (bb.getLong() != 0L) throw new IllegalArgumentException("malformed array: non-zero padding byte");
+                if (bb.getLong() != 0L) throw paddingErr();
                 bytes -= Long.BYTES;
             }
             while (bytes != 0) {
-               if (bb.get() != 0) throw new IllegalArgumentException("malformed array: non-zero padding byte");
+               if (bb.get() != 0) throw paddingErr();
                bytes -= Byte.BYTES;
             }
         }
         return data;
     }
 
+    private static IllegalArgumentException paddingErr() {
+        return DecodeException.create(DecodeResult.Status.NON_ZERO_PADDING, () -> "malformed array: non-zero padding byte");
+    }
+
     private static int[] decodeInts(int len, ByteBuffer bb, IntType intType, byte[] unitBuffer) {
         int[] ints = new int[len];
         int i = 0;
@@ -465,13 +528,13 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
         return (T[]) Array.newInstance(elementClass, len); // reflection ftw
     }
 
-    private E[] decodeObjects(int len, ByteBuffer bb, byte[] unitBuffer) {
+    private E[] decodeObjects(int len, ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
         final E[] elements = createArray(elementType.clazz, len);
         int i = 0;
         try {
             if (!elementType.dynamic) {
                 for ( ; i < elements.length; i++) {
-                    elements[i] = elementType.decode(bb, unitBuffer);
+                    elements[i] = elementType.decode(bb, unitBuffer, ctx);
                 }
             } else {
                 final int start = bb.position(); // save this value before offsets are decoded
@@ -482,7 +545,7 @@ public final class ArrayType<ET extends ABIType<E>, E, A> extends ABIType<A> {
                     /* LENIENT MODE; see https://github.com/ethereum/solidity/commit/3d1ca07e9b4b42355aa9be5db5c00048607986d1 */
                     saved = bb.position();
                     bb.position(jump); // leniently jump to specified offset
-                    elements[i] = elementType.decode(bb, unitBuffer);
+                    elements[i] = DecodeContext.decodeTail(elementType, bb, unitBuffer, ctx);
                 }
             }
         } catch (IllegalArgumentException cause) {
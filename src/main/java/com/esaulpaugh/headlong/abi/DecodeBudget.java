@@ -0,0 +1,86 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+/**
+ * Limits on what a single decode may materialize, independent of the size of the input. Because the standard encoding
+ * allows offsets to point anywhere, including at data already decoded, a short input can otherwise describe very large
+ * or very many objects. The limits are checked incrementally, as each array or tuple is encountered and before its
+ * storage is allocated. Immutable and thread-safe; each decode keeps its own running totals.
+ *
+ * @see ABIType#decode(ByteBuffer, DecodeBudget)
+ */
+public final class DecodeBudget {
+
+    public static final DecodeBudget UNLIMITED = new DecodeBudget(Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final long maxElements;
+    private final long maxBytes;
+    private final int maxDepth;
+
+    private DecodeBudget(long maxElements, long maxBytes, int maxDepth) {
+        this.maxElements = maxElements;
+        this.maxBytes = maxBytes;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * @param maxElements   the maximum total number of array and tuple elements, at all depths
+     * @param maxBytes  the maximum total length of all decoded {@code bytes}, {@code bytesN} and {@code string} values
+     * @param maxDepth  the maximum nesting of arrays and tuples, counting the outermost as one. Byte arrays and strings
+     *                  count as arrays
+     * @return  the budget
+     * @throws IllegalArgumentException if any limit is negative
+     */
+    public static DecodeBudget of(long maxElements, long maxBytes, int maxDepth) {
+        if (maxElements < 0 || maxBytes < 0 || maxDepth < 0) {
+            throw new IllegalArgumentException("limits must be non-negative");
+        }
+        return new DecodeBudget(maxElements, maxBytes, maxDepth);
+    }
+
+    public long getMaxElements() {
+        return maxElements;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(maxElements) + Long.hashCode(maxBytes)) + maxDepth;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof DecodeBudget)) return false;
+        final DecodeBudget other = (DecodeBudget) o;
+        return other.maxElements == this.maxElements
+                && other.maxBytes == this.maxBytes
+                && other.maxDepth == this.maxDepth;
+    }
+
+    @Override
+    public String toString() {
+        return "DecodeBudget{maxElements=" + maxElements + ", maxBytes=" + maxBytes + ", maxDepth=" + maxDepth + '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The mutable state of a single decode which is subject to a {@link DecodeBudget} or which uses a {@link DecodeMemo}.
+ * Not thread-safe.
+ */
+final class DecodeContext {
+
+    private final DecodeBudget budget;
+    private final DecodeMemo memo;
+    private long elements;
+    private long bytes;
+    private int depth;
+
+    DecodeContext(DecodeBudget budget) {
+        this(budget, null);
+    }
+
+    DecodeContext(DecodeBudget budget, DecodeMemo memo) {
+        this.budget = budget != null ? budget : DecodeBudget.UNLIMITED;
+        this.memo = memo;
+        if (memo != null) {
+            memo.clear();
+        }
+    }
+
+    /**
+     * Decodes a dynamic value at the current position, to which the caller has just jumped by following an offset.
+     */
+    static <T> T decodeTail(ABIType<T> type, ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
+        return ctx == null || ctx.memo == null
+                ? type.decode(bb, unitBuffer, ctx)
+                : ctx.memo.decode(type, bb, unitBuffer, ctx);
+    }
+
+    /**
+     * Called upon entering an array or tuple, before the number of its elements is known.
+     */
+    void enter() {
+        if (++depth > budget.getMaxDepth()) {
+            throw exceeded("depth", depth, budget.getMaxDepth());
+        }
+    }
+
+    void exit() {
+        depth--;
+    }
+
+    void chargeElements(int n) {
+        elements += n;
+        if (elements > budget.getMaxElements()) {
+            throw exceeded("elements", elements, budget.getMaxElements());
+        }
+    }
+
+    void chargeBytes(int n) {
+        bytes += n;
+        if (bytes > budget.getMaxBytes()) {
+            throw exceeded("bytes", bytes, budget.getMaxBytes());
+        }
+    }
+
+    private static IllegalArgumentException exceeded(String what, long total, long max) {
+        return DecodeException.create(DecodeResult.Status.BUDGET_EXCEEDED, () -> "decode budget exceeded: " + what + " " + total + " > " + max);
+    }
+}
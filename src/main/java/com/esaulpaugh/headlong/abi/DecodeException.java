@@ -0,0 +1,123 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * A failure raised while decoding on behalf of a {@code tryDecode} method. It has no stack trace, its message is
+ * formatted on demand and, instead of being wrapped at each level of nesting, it records the tuple and array indices it
+ * passes through. Thrown only while the current thread is decoding quietly.
+ */
+final class DecodeException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<boolean[]> QUIET = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    final DecodeResult.Status status;
+    private final transient Supplier<String> detail;
+    private transient int[] path; // innermost first; array indices are stored as their complement
+    private transient int depth;
+    private transient String message;
+
+    DecodeException(DecodeResult.Status status, Supplier<String> detail) {
+        super((String) null);
+        this.status = status;
+        this.detail = detail;
+    }
+
+    static boolean isQuiet() {
+        return QUIET.get()[0];
+    }
+
+    /**
+     * Returns a {@link DecodeException} if the current thread is decoding quietly and otherwise a plain
+     * {@link IllegalArgumentException} with the message given by {@code detail}.
+     */
+    static IllegalArgumentException create(DecodeResult.Status status, Supplier<String> detail) {
+        return isQuiet()
+                ? new DecodeException(status, detail)
+                : new IllegalArgumentException(detail.get());
+    }
+
+    static IllegalArgumentException wrap(IllegalArgumentException cause) {
+        return cause instanceof DecodeException
+                ? cause
+                : new DecodeException(DecodeResult.Status.MALFORMED, cause::getMessage);
+    }
+
+    DecodeException at(boolean tuple, int i) {
+        if (path == null) {
+            path = new int[4];
+        } else if (depth == path.length) {
+            path = Arrays.copyOf(path, depth << 1);
+        }
+        path[depth++] = tuple ? i : ~i;
+        message = null;
+        return this;
+    }
+
+    /**
+     * Runs {@code decoder} with quiet failures enabled on the current thread. If decoding fails and {@code bb} is
+     * non-null, its position is restored.
+     */
+    static <T> DecodeResult<T> quietly(ByteBuffer bb, Supplier<T> decoder) {
+        final boolean[] quiet = QUIET.get();
+        final boolean prev = quiet[0];
+        final int pos = bb != null ? bb.position() : 0;
+        quiet[0] = true;
+        try {
+            return DecodeResult.success(decoder.get());
+        } catch (IllegalArgumentException iae) {
+            restore(bb, pos);
+            return DecodeResult.failure((DecodeException) wrap(iae));
+        } catch (BufferUnderflowException bue) {
+            restore(bb, pos);
+            return DecodeResult.failure(new DecodeException(DecodeResult.Status.INSUFFICIENT_DATA, () -> "buffer underflow"));
+        } finally {
+            quiet[0] = prev;
+        }
+    }
+
+    private static void restore(ByteBuffer bb, int pos) {
+        if (bb != null) {
+            bb.position(pos);
+        }
+    }
+
+    @Override
+    public String getMessage() {
+        String msg = message;
+        if (msg == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (int i = depth - 1; i >= 0; i--) {
+                final int idx = path[i];
+                sb.append(idx >= 0 ? "tuple index " : "array index ").append(idx >= 0 ? idx : ~idx).append(": ");
+            }
+            message = msg = sb.append(detail.get()).toString();
+        }
+        return msg;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enables a decode mode in which dynamic values are memoized by type and absolute offset. When several offsets in an
+ * encoding point at the same tail region, as in the deduplicated layouts some contracts return, the region is decoded
+ * once and the resulting object is shared by every element which refers to it. Shared instances include arrays, which
+ * callers must therefore not modify. Values taken from the memo are not charged to any {@link DecodeBudget}.
+ * <p>
+ * The memo table is cleared at the start of each decode; the statistics accumulate until {@link #reset()}. Not
+ * thread-safe.
+ *
+ * @see ABIType#decode(ByteBuffer, DecodeMemo)
+ */
+public final class DecodeMemo {
+
+    private final Map<Key, Entry> table = new HashMap<>();
+    private long lookups;
+    private long hits;
+    private long reusedBytes;
+
+    /**
+     * @return  the number of dynamic values looked up, i.e. the number of offsets followed
+     */
+    public long lookups() {
+        return lookups;
+    }
+
+    /**
+     * @return  the number of lookups answered with a previously decoded value
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return  the fraction of lookups which were hits, or zero if there have been none
+     */
+    public double hitRate() {
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return  the total length of the encoded regions whose decoding was skipped by hits
+     */
+    public long reusedBytes() {
+        return reusedBytes;
+    }
+
+    /**
+     * Clears the memo table and the statistics.
+     */
+    public void reset() {
+        table.clear();
+        lookups = 0L;
+        hits = 0L;
+        reusedBytes = 0L;
+    }
+
+    void clear() {
+        table.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T decode(ABIType<T> type, ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
+        lookups++;
+        final int position = bb.position();
+        final Key key = new Key(type, position);
+        final Entry found = table.get(key);
+        if (found != null) {
+            hits++;
+            reusedBytes += found.end - position;
+            bb.position(found.end);
+            return (T) found.value;
+        }
+        final T value = type.decode(bb, unitBuffer, ctx);
+        table.put(key, new Entry(value, bb.position()));
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "DecodeMemo{lookups=" + lookups + ", hits=" + hits + ", reusedBytes=" + reusedBytes + '}';
+    }
+
+    private static final class Key {
+
+        final ABIType<?> type;
+        final int position;
+
+        Key(ABIType<?> type, int position) {
+            this.type = type;
+            this.position = position;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(type) + position;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            final Key other = (Key) o;
+            return other.type == this.type && other.position == this.position;
+        }
+    }
+
+    private static final class Entry {
+
+        final Object value;
+        final int end;
+
+        Entry(Object value, int end) {
+            this.value = value;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+/**
+ * The outcome of an exception-free decode attempt such as {@link ABIType#tryDecode(byte[])}: either a decoded value or
+ * a {@link Status} describing why the input was rejected. Failures are detected without filling in stack traces or
+ * building chained exceptions, and the human-readable message is not formatted until {@link #message()} is called.
+ *
+ * @param <T>   the type of the decoded value
+ */
+public final class DecodeResult<T> {
+
+    /** The reason a decode attempt failed, or {@link #OK}. */
+    public enum Status {
+        OK,
+        /** a 32-byte word holds a value outside the range of its type, e.g. a {@code bool} other than 0 or 1 */
+        ILLEGAL_VALUE,
+        /** the padding of a {@code bytes} or {@code string} is not all zeroes */
+        NON_ZERO_PADDING,
+        /** the input ends before the encoding does */
+        INSUFFICIENT_DATA,
+        /** the encoding ends before the input does */
+        UNCONSUMED_BYTES,
+        /** the function selector does not match */
+        SELECTOR_MISMATCH,
+        /** the event signature hash or the number of topics does not match */
+        TOPIC_MISMATCH,
+        /** the input describes more than its {@link DecodeBudget} allows */
+        BUDGET_EXCEEDED,
+        /** any other malformation, such as an offset pointing beyond the end of the input */
+        MALFORMED
+    }
+
+    private final T value;
+    private final DecodeException failure;
+
+    private DecodeResult(T value, DecodeException failure) {
+        this.value = value;
+        this.failure = failure;
+    }
+
+    static <T> DecodeResult<T> success(T value) {
+        return new DecodeResult<>(value, null);
+    }
+
+    static <T> DecodeResult<T> failure(DecodeException failure) {
+        return new DecodeResult<>(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public Status status() {
+        return failure == null ? Status.OK : failure.status;
+    }
+
+    /**
+     * @return  the decoded value
+     * @throws IllegalArgumentException if the decode attempt failed
+     */
+    public T get() {
+        if (failure == null) {
+            return value;
+        }
+        throw new IllegalArgumentException(failure.getMessage());
+    }
+
+    public T orElse(T other) {
+        return failure == null ? value : other;
+    }
+
+    /**
+     * Formats the failure message, the same as that of the {@link IllegalArgumentException} the corresponding
+     * {@code decode} method would have thrown, or returns null on success.
+     *
+     * @return  the message or null
+     */
+    public String message() {
+        return failure == null ? null : failure.getMessage();
+    }
+
+    @Override
+    public String toString() {
+        return failure == null ? "OK: " + value : failure.status + ": " + failure.getMessage();
+    }
+}
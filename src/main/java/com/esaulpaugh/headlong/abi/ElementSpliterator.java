@@ -0,0 +1,96 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Decodes the elements of an encoded array one at a time, in index order. Static elements are located by index and
+ * dynamic elements by reading their offsets only as they are reached, so that nothing is materialized beyond the
+ * current element. Splits by halving the remaining range of indices, each half reading from its own view of the buffer.
+ *
+ * @param <E>   the element type
+ */
+final class ElementSpliterator<E> implements Spliterator<E> {
+
+    private final ABIType<E> elementType;
+    private final ByteBuffer bb;
+    private final int start; // the absolute position of the first element's head
+    private final int stride; // the length of each head
+    private final byte[] unitBuffer = ABIType.newUnitBuffer();
+    private int index;
+    private final int fence;
+
+    ElementSpliterator(ABIType<E> elementType, ByteBuffer bb, int start, int index, int fence) {
+        this.elementType = elementType;
+        this.bb = bb;
+        this.start = start;
+        this.stride = elementType instanceof ByteType ? Byte.BYTES : elementType.headLength();
+        this.index = index;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (index < fence) {
+            action.accept(decode(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        while (index < fence) {
+            action.accept(decode(index++));
+        }
+    }
+
+    private E decode(int i) {
+        try {
+            bb.position(start + i * stride);
+            if (elementType.dynamic) {
+                bb.position(start + IntType.UINT30.decode(bb, unitBuffer));
+            }
+            return elementType.decode(bb, unitBuffer);
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(false, i, cause);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        final int lo = index;
+        final int mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new ElementSpliterator<>(elementType, bb.duplicate(), start, lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -16,13 +16,21 @@
 package com.esaulpaugh.headlong.abi;
 
 import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Integers;
 import com.esaulpaugh.headlong.util.Strings;
 import com.joemelsha.crypto.hash.Keccak;
 
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_ARRAY;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_BYTE;
+import static com.esaulpaugh.headlong.abi.ABIType.TYPE_CODE_TUPLE;
+import static com.esaulpaugh.headlong.abi.UnitType.UNIT_LENGTH_BYTES;
+
 /** Represents an event in Ethereum. */
 public final class Event<J extends Tuple> implements ABIObject {
 
@@ -35,6 +43,7 @@ public final class Event<J extends Tuple> implements ABIObject {
     private final TupleType<?> indexedParams;
     private final TupleType<?> nonIndexedParams;
     private final boolean[] indexManifest;
+    private final int[] subIndices; // for each input, its index within indexedParams or nonIndexedParams
     private final byte[] signatureHash;
 
     public static <X extends Tuple> Event<X> create(String name, TupleType<X> inputs, boolean... indexed) {
@@ -55,6 +64,10 @@ public final class Event<J extends Tuple> implements ABIObject {
         this.indexManifest = Arrays.copyOf(indexed, indexed.length);
         this.indexedParams = inputs.select(indexManifest);
         this.nonIndexedParams = inputs.exclude(indexManifest);
+        this.subIndices = new int[indexed.length];
+        for (int i = 0, topicIndex = 0, dataIndex = 0; i < indexed.length; i++) {
+            subIndices[i] = indexed[i] ? topicIndex++ : dataIndex++;
+        }
         this.signatureHash = new Keccak(256).digest(Strings.decode(getCanonicalSignature(), Strings.ASCII));
     }
 
@@ -86,6 +99,11 @@ public final class Event<J extends Tuple> implements ABIObject {
         return anonymous;
     }
 
+    /* the Keccak-256 hash of the canonical signature, i.e. topic 0 unless anonymous; not copied */
+    byte[] signatureHash() {
+        return signatureHash;
+    }
+
     @Override
     public String getCanonicalSignature() {
         return name + inputs.canonicalType;
@@ -127,6 +145,157 @@ public final class Event<J extends Tuple> implements ABIObject {
         return toJson(true);
     }
 
+    public byte[][] encodeTopics(Tuple indexedArgs) {
+        return encodeTopics(indexedArgs, new Keccak(256));
+    }
+
+    /**
+     * Encodes the topics of a log emitted by this event: the signature hash (unless anonymous) followed by one topic per
+     * indexed argument. Value types are encoded in place. Strings and dynamic byte arrays are hashed, as are arrays and
+     * tuples, whose elements are first concatenated in place, each padded to a multiple of 32 bytes without offsets or
+     * lengths (see <a href="https://docs.soliditylang.org/en/latest/abi-spec.html#indexed-event-encoding">indexed
+     * event encoding</a>).
+     *
+     * @param indexedArgs   the values of the indexed parameters
+     * @param keccak    the digest with which to hash reference-type arguments, which is reset before each use
+     * @return  the topics
+     * @throws IllegalArgumentException if the arguments do not match the indexed parameters
+     */
+    public byte[][] encodeTopics(Tuple indexedArgs, Keccak keccak) {
+        validate(indexedParams, indexedArgs);
+        final int offset = anonymous ? 0 : 1;
+        final byte[][] topics = new byte[offset + indexedArgs.size()][];
+        if (!anonymous) {
+            topics[0] = signatureHash.clone();
+        }
+        for (int i = 0; i < indexedArgs.size(); i++) {
+            topics[offset + i] = encodeTopic(indexedParams.get(i), indexedArgs.get(i), keccak);
+        }
+        return topics;
+    }
+
+    /**
+     * Encodes the data of a log emitted by this event, i.e. the standard ABI encoding of the non-indexed arguments.
+     *
+     * @param nonIndexedArgs    the values of the non-indexed parameters
+     * @return  the data
+     */
+    public byte[] encodeData(Tuple nonIndexedArgs) {
+        @SuppressWarnings("unchecked")
+        final TupleType<Tuple> type = (TupleType<Tuple>) nonIndexedParams;
+        return type.encode(nonIndexedArgs).array();
+    }
+
+    /**
+     * Compiles a filter matching the logs of this event whose indexed arguments equal the given values, where a null
+     * value matches any argument.
+     *
+     * @param indexedValues for each indexed parameter, the required value or null
+     * @return  the filter
+     */
+    public TopicFilter topicFilter(Object... indexedValues) {
+        if (indexedValues.length != indexedParams.size()) {
+            throw new IllegalArgumentException("expected " + indexedParams.size() + " indexed values but found " + indexedValues.length);
+        }
+        final Keccak keccak = new Keccak(256);
+        final int offset = anonymous ? 0 : 1;
+        final byte[][][] positions = new byte[offset + indexedValues.length][][];
+        if (!anonymous) {
+            positions[0] = new byte[][] { signatureHash };
+        }
+        for (int i = 0; i < indexedValues.length; i++) {
+            final Object v = indexedValues[i];
+            if (v != null) {
+                @SuppressWarnings("unchecked")
+                final ABIType<Object> type = (ABIType<Object>) indexedParams.get(i);
+                type.validate(v);
+                positions[offset + i] = new byte[][] { encodeTopic(type, v, keccak) };
+            }
+        }
+        return TopicFilter.of(positions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void validate(TupleType<?> type, Tuple args) {
+        ((TupleType<Tuple>) type).validate(args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] encodeTopic(ABIType<?> type, Object value, Keccak keccak) {
+        if (isValueType(type)) {
+            final ByteBuffer topic = ByteBuffer.allocate(UNIT_LENGTH_BYTES);
+            ((ABIType<Object>) type).encodeTail(value, topic);
+            return topic.array();
+        }
+        final ByteBuffer inPlace = ByteBuffer.allocate(inPlaceLength(type, value, false));
+        encodeInPlace(type, value, false, inPlace);
+        keccak.reset();
+        return keccak.digest(inPlace.array());
+    }
+
+    /* whether the type is encoded in exactly one 32-byte word */
+    private static boolean isValueType(ABIType<?> type) {
+        switch (type.typeCode()) {
+        case TYPE_CODE_TUPLE: return false;
+        case TYPE_CODE_ARRAY:
+            final ArrayType<?, ?, ?> arrayType = type.asArrayType();
+            return !arrayType.isDynamic() && arrayType.getElementType().typeCode() == TYPE_CODE_BYTE;
+        default: return true;
+        }
+    }
+
+    private static boolean isByteString(ABIType<?> type) {
+        return type.typeCode() == TYPE_CODE_ARRAY && type.isDynamic() && type.asArrayType().getElementType().typeCode() == TYPE_CODE_BYTE;
+    }
+
+    private static int inPlaceLength(ABIType<?> type, Object value, boolean nested) {
+        if (isValueType(type)) {
+            return UNIT_LENGTH_BYTES;
+        }
+        if (isByteString(type)) {
+            final int len = type.asArrayType().decodeIfString(value).length;
+            return nested ? Integers.roundLengthUp(len, UNIT_LENGTH_BYTES) : len;
+        }
+        int sum = 0;
+        if (type.typeCode() == TYPE_CODE_TUPLE) {
+            final TupleType<?> tupleType = type.asTupleType();
+            final Tuple tuple = (Tuple) value;
+            for (int i = 0; i < tuple.size(); i++) {
+                sum += inPlaceLength(tupleType.get(i), tuple.get(i), true);
+            }
+        } else {
+            final ABIType<?> elementType = type.asArrayType().getElementType();
+            for (int i = 0, n = Array.getLength(value); i < n; i++) {
+                sum += inPlaceLength(elementType, Array.get(value, i), true);
+            }
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void encodeInPlace(ABIType<?> type, Object value, boolean nested, ByteBuffer dest) {
+        if (isValueType(type)) {
+            ((ABIType<Object>) type).encodeTail(value, dest);
+        } else if (isByteString(type)) {
+            final byte[] bytes = type.asArrayType().decodeIfString(value);
+            dest.put(bytes);
+            if (nested) {
+                dest.position(dest.position() + Integers.roundLengthUp(bytes.length, UNIT_LENGTH_BYTES) - bytes.length);
+            }
+        } else if (type.typeCode() == TYPE_CODE_TUPLE) {
+            final TupleType<?> tupleType = type.asTupleType();
+            final Tuple tuple = (Tuple) value;
+            for (int i = 0; i < tuple.size(); i++) {
+                encodeInPlace(tupleType.get(i), tuple.get(i), true, dest);
+            }
+        } else {
+            final ABIType<?> elementType = type.asArrayType().getElementType();
+            for (int i = 0, n = Array.getLength(value); i < n; i++) {
+                encodeInPlace(elementType, Array.get(value, i), true, dest);
+            }
+        }
+    }
+
     public <T extends Tuple> T decodeTopics(byte[][] topics) {
         return Tuple.create(decodeTopicsArray(topics));
     }
@@ -151,6 +320,69 @@ public final class Event<J extends Tuple> implements ABIObject {
         return (T) mergeDecodedArgs(decodeTopicsArray(topics), decodeData(data));
     }
 
+    /**
+     * Like {@link #decodeArgs(byte[][], byte[])} but reports malformed input, including unexpected topics, via the
+     * returned {@link DecodeResult} instead of by throwing.
+     *
+     * @param topics    the log's topics
+     * @param data  the log's data
+     * @return  the decoded arguments or the reason for failure
+     * @param <T>   the type of the arguments
+     */
+    public <T extends Tuple> DecodeResult<T> tryDecodeArgs(byte[][] topics, byte[] data) {
+        return DecodeException.quietly(null, () -> decodeArgs(topics, data));
+    }
+
+    /**
+     * Decodes only the arguments at the specified input positions. Indexed arguments are decoded from their topics and
+     * non-indexed arguments via {@link TupleType#decode(ByteBuffer, int...)}, so unselected data fields, including
+     * dynamic ones, are skipped without being copied.
+     *
+     * @param topics    the log's topics
+     * @param data  the log's data
+     * @param indices   the positions of the inputs to decode, in strictly ascending order
+     * @return  if one index is given, the argument at that position; otherwise, a {@link Tuple} of all inputs in which
+     *          only the specified elements are populated
+     * @param <T>   the type of the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T decodeArgs(byte[][] topics, byte[] data, int... indices) {
+        checkTopics(topics);
+        int dataCount = 0;
+        int prev = -1;
+        for (final int index : indices) {
+            Objects.checkIndex(index, indexManifest.length);
+            if (index <= prev) {
+                throw new IllegalArgumentException("index out of order: " + index);
+            }
+            prev = index;
+            if (!indexManifest[index]) {
+                dataCount++;
+            }
+        }
+        Object decodedData = null;
+        if (dataCount != 0) {
+            final int[] dataIndices = new int[dataCount];
+            for (int i = 0, j = 0; i < indices.length; i++) {
+                if (!indexManifest[indices[i]]) {
+                    dataIndices[j++] = subIndices[indices[i]];
+                }
+            }
+            decodedData = nonIndexedParams.decode(ByteBuffer.wrap(data), dataIndices);
+        }
+        if (indices.length == 1) {
+            final int index = indices[0];
+            return (T) (indexManifest[index] ? decodeTopic(topics, subIndices[index]) : decodedData);
+        }
+        final Object[] results = new Object[inputs.size()];
+        for (final int index : indices) {
+            results[index] = indexManifest[index]
+                    ? decodeTopic(topics, subIndices[index])
+                    : dataCount == 1 ? decodedData : ((Tuple) decodedData).elements[subIndices[index]];
+        }
+        return (T) Tuple.create(results);
+    }
+
     private Tuple mergeDecodedArgs(Object[] decodedTopics, Tuple decodedData) {
         Object[] result = new Object[inputs.size()];
         for (int i = 0, topicIndex = 0, dataIndex = 0; i < indexManifest.length; i++) {
@@ -165,44 +397,51 @@ public final class Event<J extends Tuple> implements ABIObject {
 
     private Object[] decodeTopicsArray(byte[][] topics) {
         checkTopics(topics);
-        final int offset = anonymous ? 0 : 1;
         final Object[] decodedTopics = new Object[indexedParams.size()];
         for (int i = 0; i < decodedTopics.length; i++) {
-            ABIType<?> abiType = indexedParams.get(i);
-            byte[] topic = topics[i + offset];
-            if (abiType.isDynamic()) {
-                // Dynamic indexed types are not decodable in Events. Only a special hash is stored for fast querying of records
-                // See https://docs.soliditylang.org/en/v0.8.11/abi-spec.html#indexed-event-encoding
-                decodedTopics[i] = BYTES_32.decode(topic);
-            } else {
-                decodedTopics[i] = abiType.decode(topic);
-            }
+            decodedTopics[i] = decodeTopic(topics, i);
         }
         return decodedTopics;
     }
 
+    private Object decodeTopic(byte[][] topics, int i) {
+        final ABIType<?> abiType = indexedParams.get(i);
+        final byte[] topic = topics[i + (anonymous ? 0 : 1)];
+        if (abiType.isDynamic()) {
+            // Dynamic indexed types are not decodable in Events. Only a special hash is stored for fast querying of records
+            // See https://docs.soliditylang.org/en/v0.8.11/abi-spec.html#indexed-event-encoding
+            return BYTES_32.decode(topic);
+        }
+        return abiType.decode(topic);
+    }
+
     private void checkTopics(byte[][] topics) {
         final int size = indexedParams.size();
+        final int found = topics == null ? 0 : topics.length;
         final int expectedTopics;
         if (anonymous) {
-            if (size == 0 && topics == null) {
-                topics = EMPTY_TOPICS;
-            }
             expectedTopics = size;
         } else {
+            expectedTopics = size + 1;
+            if (found == 0) {
+                throw topicsLengthErr(expectedTopics, found);
+            }
             final byte[] decodedSignatureHash = BYTES_32.decode(topics[0]);
             if (!MessageDigest.isEqual(signatureHash, decodedSignatureHash)) {
-                throw new IllegalArgumentException("unexpected topics[0]: event " + getCanonicalSignature()
+                throw DecodeException.create(DecodeResult.Status.TOPIC_MISMATCH, () -> "unexpected topics[0]: event " + getCanonicalSignature()
                         + " expects " + FastHex.encodeToString(signatureHash)
                         + " but found " + FastHex.encodeToString(decodedSignatureHash));
             }
-            expectedTopics = size + 1;
         }
-        if (topics.length != expectedTopics) {
-            throw new IllegalArgumentException("expected topics.length " + expectedTopics + " but found length " + topics.length);
+        if (found != expectedTopics) {
+            throw topicsLengthErr(expectedTopics, found);
         }
     }
 
+    private static IllegalArgumentException topicsLengthErr(int expected, int found) {
+        return DecodeException.create(DecodeResult.Status.TOPIC_MISMATCH, () -> "expected topics.length " + expected + " but found length " + found);
+    }
+
     public static <X extends Tuple> Event<X> fromJson(String eventJson) {
         return fromJson(ABIType.FLAGS_NONE, eventJson);
     }
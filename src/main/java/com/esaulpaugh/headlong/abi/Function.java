@@ -26,6 +26,7 @@ import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.IntFunction;
+import java.util.stream.Stream;
 
 import static com.esaulpaugh.headlong.abi.ABIType.ID_LABEL_PADDED;
 import static com.esaulpaugh.headlong.abi.ABIType.PADDED_LABEL_LEN;
@@ -232,6 +233,28 @@ public final class Function implements ABIObject {
         return (T) inputTypes.decode(buffer);
     }
 
+    /**
+     * Like {@link #decodeCall(byte[])} but fails if the arguments describe more elements, bytes or nesting than
+     * {@code budget} allows.
+     *
+     * @param call  the encoded function call
+     * @param budget    the limits on what may be materialized
+     * @return  the decoded arguments
+     * @see ABIType#decode(ByteBuffer, DecodeBudget)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeCall(byte[] call, DecodeBudget budget) {
+        checkSelector(Arrays.copyOf(call, SELECTOR_LEN));
+        return (T) inputTypes.decode(call, SELECTOR_LEN, call.length - SELECTOR_LEN, new DecodeContext(budget));
+    }
+
+    /** @see #decodeCall(byte[], DecodeBudget) */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeCall(ByteBuffer buffer, DecodeBudget budget) {
+        checkSelector(buffer);
+        return (T) inputTypes.decode(buffer, budget);
+    }
+
     public <T> T decodeCall(byte[] call, int... indices) {
         return decodeCall(ByteBuffer.wrap(call), indices);
     }
@@ -241,6 +264,33 @@ public final class Function implements ABIObject {
         return inputTypes.decode(buffer, indices);
     }
 
+    /**
+     * Like {@link #decodeCall(byte[])} but reports malformed input, including a mismatched selector, via the returned
+     * {@link DecodeResult} instead of by throwing.
+     *
+     * @param call  the encoded function call
+     * @return  the decoded arguments or the reason for failure
+     * @param <T>   the type of the arguments
+     */
+    public <T extends Tuple> DecodeResult<T> tryDecodeCall(byte[] call) {
+        return DecodeException.quietly(null, () -> decodeCall(call));
+    }
+
+    /** @see #tryDecodeCall(byte[]) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeCall(ByteBuffer buffer) {
+        return DecodeException.quietly(buffer, () -> decodeCall(buffer));
+    }
+
+    /** @see #decodeCall(byte[], DecodeBudget) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeCall(byte[] call, DecodeBudget budget) {
+        return DecodeException.quietly(null, () -> decodeCall(call, budget));
+    }
+
+    /** @see #decodeCall(ByteBuffer, DecodeBudget) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeCall(ByteBuffer buffer, DecodeBudget budget) {
+        return DecodeException.quietly(buffer, () -> decodeCall(buffer, budget));
+    }
+
     private void checkSelector(ByteBuffer bb) {
         final byte[] four = new byte[SELECTOR_LEN];
         bb.get(four, 0, four.length);
@@ -249,7 +299,7 @@ public final class Function implements ABIObject {
 
     private void checkSelector(byte[] found) {
         if (!MessageDigest.isEqual(found, selector)) {
-                throw new IllegalArgumentException("given selector does not match: expected: " + selectorHex()
+                throw DecodeException.create(DecodeResult.Status.SELECTOR_MISMATCH, () -> "given selector does not match: expected: " + selectorHex()
                         + ", found: " + Strings.encode(found));
         }
     }
@@ -264,6 +314,50 @@ public final class Function implements ABIObject {
         return (T) outputTypes.decode(buf);
     }
 
+    /** @see ABIType#decode(byte[], DecodeBudget) */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(byte[] returnVals, DecodeBudget budget) {
+        return (T) outputTypes.decode(returnVals, budget);
+    }
+
+    /** @see ABIType#decode(ByteBuffer, DecodeBudget) */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(ByteBuffer buf, DecodeBudget budget) {
+        return (T) outputTypes.decode(buf, budget);
+    }
+
+    /** @see ABIType#decode(byte[], DecodeMemo) */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(byte[] returnVals, DecodeMemo memo) {
+        return (T) outputTypes.decode(returnVals, memo);
+    }
+
+    /** @see ABIType#decode(ByteBuffer, DecodeMemo) */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decodeReturn(ByteBuffer buf, DecodeMemo memo) {
+        return (T) outputTypes.decode(buf, memo);
+    }
+
+    /** @see ABIType#tryDecode(byte[]) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeReturn(byte[] returnVals) {
+        return DecodeException.quietly(null, () -> decodeReturn(returnVals));
+    }
+
+    /** @see ABIType#tryDecode(ByteBuffer) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeReturn(ByteBuffer buf) {
+        return DecodeException.quietly(buf, () -> decodeReturn(buf));
+    }
+
+    /** @see ABIType#tryDecode(byte[], DecodeBudget) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeReturn(byte[] returnVals, DecodeBudget budget) {
+        return DecodeException.quietly(null, () -> decodeReturn(returnVals, budget));
+    }
+
+    /** @see ABIType#tryDecode(ByteBuffer, DecodeBudget) */
+    public <T extends Tuple> DecodeResult<T> tryDecodeReturn(ByteBuffer buf, DecodeBudget budget) {
+        return DecodeException.quietly(buf, () -> decodeReturn(buf, budget));
+    }
+
     public <T> T decodeReturn(byte[] returnVals, int... indices) {
         return decodeReturn(ByteBuffer.wrap(returnVals), indices);
     }
@@ -282,6 +376,37 @@ public final class Function implements ABIObject {
         return outputTypes.decode(buf, indices);
     }
 
+    public <E> Stream<E> streamReturn(byte[] returnVals, int index) {
+        return streamReturn(ByteBuffer.wrap(returnVals), index);
+    }
+
+    /**
+     * Returns a {@link Stream} of the elements of the array-typed return value at the given index, decoded one at a
+     * time, so that very long arrays can be processed in constant memory. The stream may be made parallel.
+     * NOTE: This method does not advance the {@link ByteBuffer}'s {@code position}.
+     *
+     * @param buf   the buffer containing the return values
+     * @param index the index of the array among the return values
+     * @return  the stream of elements
+     * @param <E>   the element type
+     * @throws IllegalArgumentException if the return value at {@code index} is not an array
+     * @see ArrayType#stream(ByteBuffer)
+     */
+    @SuppressWarnings("unchecked")
+    public <E> Stream<E> streamReturn(ByteBuffer buf, int index) {
+        final ABIType<?> type = outputTypes.get(index);
+        if (!(type instanceof ArrayType<?, ?, ?>)) {
+            throw new IllegalArgumentException("return type at index " + index + " is not an array: " + type.canonicalType);
+        }
+        final ByteBuffer bb = buf.duplicate();
+        try {
+            outputTypes.seek(bb, bb.position(), ABIType.newUnitBuffer(), index);
+        } catch (IllegalArgumentException cause) {
+            throw TupleType.exceptionWithIndex(true, index, cause);
+        }
+        return ((ArrayType<?, E, ?>) type).stream(bb);
+    }
+
     @SuppressWarnings("unchecked")
     public <J> J decodeSingletonReturn(byte[] singleton) {
         if (outputTypes.size() == 1) {
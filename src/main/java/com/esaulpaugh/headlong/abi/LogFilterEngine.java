@@ -0,0 +1,338 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Matches logs against many {@code eth_getLogs}-style subscriptions at once. Each subscription names a set of addresses
+ * (empty for any address) and, for each topic position, a set of alternatives (null or empty for any topic).
+ * Subscriptions are compiled into hash indexes keyed on address and on topic 0, so that matching a log looks up at most
+ * four buckets and then checks only the remaining topic positions of the candidates found, at a cost independent of the
+ * number of subscriptions which cannot match. Immutable and thread-safe once built.
+ * <p>
+ * A subscription may be bound to an {@link Event}, in which case {@link #dispatch(Address, byte[][], byte[], Listener)}
+ * decodes each matching log once per distinct event and passes the same arguments to every matching subscriber.
+ */
+public final class LogFilterEngine {
+
+    private static final int MAX_TOPICS = 4;
+    private static final Subscription[] NONE = new Subscription[0];
+
+    /** Receives the matches of {@link #dispatch(Address, byte[][], byte[], Listener)}. */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param subscriptionId    the id of a matching subscription
+         * @param args  the log's decoded arguments, shared among subscribers to the same event, or null if the
+         *              subscription is not bound to an event
+         */
+        void onLog(int subscriptionId, Tuple args);
+    }
+
+    private static final class Subscription {
+        final int id;
+        final Set<Topic>[] topics; // positions 1 through 3, null for any; position 0 is checked by the index
+        final Event<?> event;
+        final int topicCount; // the exact number of topics an event-bound subscription requires; otherwise -1
+
+        Subscription(int id, Set<Topic>[] topics, Event<?> event) {
+            this.id = id;
+            this.topics = topics;
+            this.event = event;
+            this.topicCount = event == null ? -1 : (event.isAnonymous() ? 0 : 1) + event.getIndexedParams().size();
+        }
+
+        boolean matchesTail(Topic[] logTopics) {
+            if (topicCount >= 0 && logTopics.length != topicCount) {
+                return false;
+            }
+            for (int i = 1; i < topics.length; i++) {
+                final Set<Topic> alternatives = topics[i];
+                if (alternatives != null && (i >= logTopics.length || !alternatives.contains(logTopics[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /* the subscriptions sharing one address constraint, indexed by topic 0 */
+    private static final class Bucket {
+        final Map<Topic, Subscription[]> byTopic0;
+        final Subscription[] anyTopic0;
+
+        Bucket(Map<Topic, Subscription[]> byTopic0, Subscription[] anyTopic0) {
+            this.byTopic0 = byTopic0;
+            this.anyTopic0 = anyTopic0;
+        }
+    }
+
+    private final Map<Address, Bucket> byAddress;
+    private final Bucket anyAddress;
+    private final int size;
+
+    private LogFilterEngine(Map<Address, Bucket> byAddress, Bucket anyAddress, int size) {
+        this.byAddress = byAddress;
+        this.anyAddress = anyAddress;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return  the number of subscriptions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reports the id of each subscription matching the given log, in no particular order.
+     *
+     * @param address   the emitting contract
+     * @param topics    the log's topics
+     * @param subscribers   receives the ids of the matching subscriptions
+     * @return  the number of matching subscriptions
+     */
+    public int match(Address address, byte[][] topics, IntConsumer subscribers) {
+        final Topic[] logTopics = toTopics(topics);
+        int count = 0;
+        for (Subscription[] group : candidates(address, logTopics)) {
+            if (group == null) {
+                break;
+            }
+            for (Subscription s : group) {
+                if (s.matchesTail(logTopics)) {
+                    subscribers.accept(s.id);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public int[] match(Address address, byte[][] topics) {
+        final IntStream.Builder ids = IntStream.builder();
+        match(address, topics, ids);
+        return ids.build().toArray();
+    }
+
+    /**
+     * Matches the given log and passes it to the listener once for each matching subscription. For subscriptions bound
+     * to an event, the log matches only if it has the event's number of topics, and is decoded with
+     * {@link Event#tryDecodeArgs(byte[][], byte[])} once per distinct event. Subscriptions whose event fails to decode
+     * the log are skipped.
+     *
+     * @param address   the emitting contract
+     * @param topics    the log's topics
+     * @param data  the log's data
+     * @param listener  receives the matches
+     * @return  the number of subscriptions passed to the listener
+     */
+    public int dispatch(Address address, byte[][] topics, byte[] data, Listener listener) {
+        final Topic[] logTopics = toTopics(topics);
+        Map<Event<?>, DecodeResult<Tuple>> decoded = null; // keyed by identity, as the builder interns events
+        int count = 0;
+        for (Subscription[] group : candidates(address, logTopics)) {
+            if (group == null) {
+                break;
+            }
+            for (Subscription s : group) {
+                if (!s.matchesTail(logTopics)) {
+                    continue;
+                }
+                Tuple args = null;
+                if (s.event != null) {
+                    if (decoded == null) {
+                        decoded = new IdentityHashMap<>(4);
+                    }
+                    DecodeResult<Tuple> result = decoded.get(s.event);
+                    if (result == null) {
+                        result = s.event.tryDecodeArgs(topics, data);
+                        decoded.put(s.event, result);
+                    }
+                    if (!result.isSuccess()) {
+                        continue;
+                    }
+                    args = result.get();
+                }
+                listener.onLog(s.id, args);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static Topic[] toTopics(byte[][] topics) {
+        if (topics.length > MAX_TOPICS) {
+            throw new IllegalArgumentException("too many topics: " + topics.length + " > " + MAX_TOPICS);
+        }
+        final Topic[] out = new Topic[topics.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = Topic.of(topics[i]);
+        }
+        return out;
+    }
+
+    /* the (up to four) groups of subscriptions indexed under the log's address or any address, and under its topic 0 or any topic 0, null-terminated */
+    private Subscription[][] candidates(Address address, Topic[] logTopics) {
+        final Topic topic0 = logTopics.length == 0 ? null : logTopics[0];
+        final Subscription[][] groups = new Subscription[4][];
+        int n = 0;
+        final Bucket exact = byAddress.get(address);
+        if (exact != null) {
+            n = addGroups(exact, topic0, groups, n);
+        }
+        addGroups(anyAddress, topic0, groups, n);
+        return groups;
+    }
+
+    private static int addGroups(Bucket bucket, Topic topic0, Subscription[][] groups, int n) {
+        if (topic0 != null) {
+            final Subscription[] byTopic = bucket.byTopic0.get(topic0);
+            if (byTopic != null) {
+                groups[n++] = byTopic;
+            }
+        }
+        if (bucket.anyTopic0.length != 0) {
+            groups[n++] = bucket.anyTopic0;
+        }
+        return n;
+    }
+
+    /**
+     * Collects subscriptions and compiles them into a {@link LogFilterEngine}.
+     */
+    public static final class Builder {
+
+        private final Map<Address, Map<Topic, List<Subscription>>> byAddress = new HashMap<>();
+        private final Map<Topic, List<Subscription>> anyAddressByTopic0 = new HashMap<>();
+        private final Set<Integer> ids = new HashSet<>();
+        private final Map<Event<?>, Event<?>> events = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a subscription to raw topics.
+         *
+         * @param id    the id to report on a match, unique within the engine
+         * @param addresses the addresses of interest, or empty for any address
+         * @param topics    for each topic position, the acceptable topics, or null or empty for any topic
+         * @return  this builder
+         * @throws IllegalArgumentException if the id is a duplicate, a topic is not 32 bytes, or there are more than four
+         *                                  topic positions
+         */
+        public Builder subscribe(int id, Collection<Address> addresses, List<? extends Collection<byte[]>> topics) {
+            return add(id, addresses, topics, null);
+        }
+
+        /**
+         * Adds a subscription to an event. Unless the event is anonymous, topic 0 is the event's signature hash and
+         * {@code indexedTopics} constrains positions 1 onward; otherwise it constrains positions 0 onward.
+         *
+         * @param id    the id to report on a match, unique within the engine
+         * @param addresses the addresses of interest, or empty for any address
+         * @param event the event with which to decode matching logs
+         * @param indexedTopics for each indexed parameter, the acceptable topics, or null or empty for any topic
+         * @return  this builder
+         */
+        public Builder subscribe(int id, Collection<Address> addresses, Event<?> event, List<? extends Collection<byte[]>> indexedTopics) {
+            final List<Collection<byte[]>> topics = new ArrayList<>(indexedTopics.size() + 1);
+            if (!event.isAnonymous()) {
+                topics.add(List.of(event.signatureHash()));
+            }
+            topics.addAll(indexedTopics);
+            return add(id, addresses, topics, events.computeIfAbsent(event, e -> e));
+        }
+
+        private Builder add(int id, Collection<Address> addresses, List<? extends Collection<byte[]>> topics, Event<?> event) {
+            if (topics.size() > MAX_TOPICS) {
+                throw new IllegalArgumentException("too many topic positions: " + topics.size() + " > " + MAX_TOPICS);
+            }
+            if (!ids.add(id)) {
+                throw new IllegalArgumentException("duplicate subscription id: " + id);
+            }
+            @SuppressWarnings("unchecked")
+            final Set<Topic>[] sets = (Set<Topic>[]) new Set<?>[topics.size()];
+            for (int i = 0; i < sets.length; i++) {
+                final Collection<byte[]> alternatives = topics.get(i);
+                if (alternatives != null && !alternatives.isEmpty()) {
+                    final Set<Topic> set = new HashSet<>();
+                    for (byte[] t : alternatives) {
+                        set.add(Topic.of(t));
+                    }
+                    sets[i] = set;
+                }
+            }
+            final Subscription s = new Subscription(id, sets, event);
+            final Set<Topic> topic0 = sets.length == 0 ? null : sets[0];
+            if (addresses.isEmpty()) {
+                index(anyAddressByTopic0, topic0, s);
+            } else {
+                for (Address a : new HashSet<>(addresses)) {
+                    index(byAddress.computeIfAbsent(a, k -> new HashMap<>()), topic0, s);
+                }
+            }
+            return this;
+        }
+
+        /* a null key holds the subscriptions which accept any topic 0 */
+        private static void index(Map<Topic, List<Subscription>> byTopic0, Set<Topic> topic0, Subscription s) {
+            if (topic0 == null) {
+                byTopic0.computeIfAbsent(null, k -> new ArrayList<>()).add(s);
+            } else {
+                for (Topic t : topic0) {
+                    byTopic0.computeIfAbsent(t, k -> new ArrayList<>()).add(s);
+                }
+            }
+        }
+
+        public LogFilterEngine build() {
+            final Map<Address, Bucket> compiled = new HashMap<>();
+            for (Map.Entry<Address, Map<Topic, List<Subscription>>> e : byAddress.entrySet()) {
+                compiled.put(e.getKey(), compile(e.getValue()));
+            }
+            return new LogFilterEngine(compiled, compile(anyAddressByTopic0), ids.size());
+        }
+
+        private static Bucket compile(Map<Topic, List<Subscription>> byTopic0) {
+            final Map<Topic, Subscription[]> map = new HashMap<>();
+            Subscription[] any = NONE;
+            for (Map.Entry<Topic, List<Subscription>> e : byTopic0.entrySet()) {
+                final Subscription[] arr = e.getValue().toArray(NONE);
+                if (e.getKey() == null) {
+                    any = arr;
+                } else {
+                    map.put(e.getKey(), arr);
+                }
+            }
+            return new Bucket(map, any);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+import com.joemelsha.crypto.hash.Keccak;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The 2048-bit bloom filter of a receipt or block, into which each log's address and topics are added. An entry sets
+ * three bits, each given by the low 11 bits of one of the first three big-endian 16-bit words of the entry's Keccak-256
+ * hash. The bits are held in 32 longs, most significant first, so that {@link #toBytes()} yields the 256-byte
+ * big-endian form found in receipts and block headers. A bloom reuses one {@link Keccak} state and address buffer
+ * across additions. Not thread-safe.
+ * <p>
+ * Queries are precompiled into {@link Mask}s, which test a bloom in at most three AND/compare operations, either
+ * against a {@link LogsBloom} or directly against the 256-byte form.
+ */
+public final class LogsBloom {
+
+    public static final int BYTES = 256;
+    private static final int WORDS = BYTES / Long.BYTES;
+    private static final int ADDRESS_BYTES = Address.ADDRESS_BIT_LEN / Byte.SIZE;
+
+    private final long[] words = new long[WORDS];
+    private final Keccak keccak = new Keccak(256);
+    private final byte[] addressBytes = new byte[ADDRESS_BYTES];
+
+    public LogsBloom() {
+    }
+
+    /**
+     * @param bloom the 256-byte big-endian bloom, e.g. from a block header
+     * @param offset    the index of the bloom
+     * @return  a new bloom holding the given bits
+     */
+    public static LogsBloom wrap(byte[] bloom, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, bloom.length);
+        final LogsBloom b = new LogsBloom();
+        for (int i = 0; i < WORDS; i++, offset += Long.BYTES) {
+            long w = 0L;
+            for (int j = 0; j < Long.BYTES; j++) {
+                w = (w << Byte.SIZE) | (bloom[offset + j] & 0xFFL);
+            }
+            b.words[i] = w;
+        }
+        return b;
+    }
+
+    public LogsBloom add(Address address) {
+        address.putBytes(addressBytes, 0);
+        return add(addressBytes, 0, ADDRESS_BYTES);
+    }
+
+    /**
+     * @param topic the topic, typically 32 bytes
+     * @return  this bloom
+     */
+    public LogsBloom add(byte[] topic) {
+        return add(topic, 0, topic.length);
+    }
+
+    public LogsBloom add(byte[] src, int offset, int len) {
+        keccak.update(src, offset, len);
+        final byte[] hash = keccak.digest();
+        set(bit(hash, 0));
+        set(bit(hash, 2));
+        set(bit(hash, 4));
+        return this;
+    }
+
+    private void set(int bit) {
+        words[word(bit)] |= 1L << bit;
+    }
+
+    /**
+     * Adds a log's address and each of its topics.
+     *
+     * @param address   the emitting contract
+     * @param topics    the log's topics
+     * @return  this bloom
+     */
+    public LogsBloom addLog(Address address, byte[]... topics) {
+        add(address);
+        for (byte[] topic : topics) {
+            add(topic);
+        }
+        return this;
+    }
+
+    /**
+     * Sets every bit set in {@code other}, e.g. to aggregate receipt blooms into a block bloom.
+     *
+     * @param other another bloom
+     * @return  this bloom
+     */
+    public LogsBloom or(LogsBloom other) {
+        for (int i = 0; i < WORDS; i++) {
+            words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        for (long w : words) {
+            if (w != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Clears every bit, retaining the hashing state for reuse.
+     */
+    public void reset() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * @param mask  a compiled entry
+     * @return  false if the entry is definitely absent, true if it may be present
+     */
+    public boolean mightContain(Mask mask) {
+        for (int i = 0; i < mask.wordIndices.length; i++) {
+            final long bits = mask.wordBits[i];
+            if ((words[mask.wordIndices[i]] & bits) != bits) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean mightContain(Address address) {
+        return mightContain(mask(address));
+    }
+
+    public boolean mightContain(byte[] topic) {
+        return mightContain(mask(topic));
+    }
+
+    public byte[] toBytes() {
+        final byte[] out = new byte[BYTES];
+        putBytes(out, 0);
+        return out;
+    }
+
+    public void putBytes(byte[] dest, int offset) {
+        Objects.checkFromIndexSize(offset, BYTES, dest.length);
+        for (long w : words) {
+            for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                dest[offset++] = (byte) (w >>> shift);
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LogsBloom && Arrays.equals(((LogsBloom) o).words, this.words);
+    }
+
+    @Override
+    public String toString() {
+        return FastHex.encodeToString(toBytes());
+    }
+
+    /* the bit index, from the least significant end of the 2048-bit bloom, given by a 16-bit word of the hash */
+    private static int bit(byte[] hash, int i) {
+        return ((hash[i] & 0x07) << Byte.SIZE) | (hash[i + 1] & 0xFF);
+    }
+
+    private static int word(int bit) {
+        return WORDS - 1 - (bit >>> 6); // 1L << bit uses only the low six bits
+    }
+
+    public static Mask mask(Address address) {
+        return mask(address.toBytes());
+    }
+
+    public static Mask mask(byte[] topic) {
+        return new Mask(new Keccak(256).digest(topic));
+    }
+
+    /**
+     * The (up to) three bits set by one address or topic, grouped by the long and by the byte in which they lie.
+     */
+    public static final class Mask {
+
+        final int[] wordIndices;
+        final long[] wordBits;
+        private final int[] byteIndices;
+        private final int[] byteBits;
+
+        Mask(byte[] hash) {
+            final int[] bits = { bit(hash, 0), bit(hash, 2), bit(hash, 4) };
+            final int[] wi = new int[3];
+            final long[] wb = new long[3];
+            final int[] bi = new int[3];
+            final int[] bb = new int[3];
+            int nw = 0, nb = 0;
+            for (int bit : bits) {
+                nw = merge(wi, wb, nw, word(bit), 1L << bit);
+                nb = merge(bi, bb, nb, BYTES - 1 - (bit >>> 3), 1 << (bit & 7));
+            }
+            this.wordIndices = Arrays.copyOf(wi, nw);
+            this.wordBits = Arrays.copyOf(wb, nw);
+            this.byteIndices = Arrays.copyOf(bi, nb);
+            this.byteBits = Arrays.copyOf(bb, nb);
+        }
+
+        private static int merge(int[] indices, long[] bits, int n, int index, long bit) {
+            for (int i = 0; i < n; i++) {
+                if (indices[i] == index) {
+                    bits[i] |= bit;
+                    return n;
+                }
+            }
+            indices[n] = index;
+            bits[n] = bit;
+            return n + 1;
+        }
+
+        private static int merge(int[] indices, int[] bits, int n, int index, int bit) {
+            for (int i = 0; i < n; i++) {
+                if (indices[i] == index) {
+                    bits[i] |= bit;
+                    return n;
+                }
+            }
+            indices[n] = index;
+            bits[n] = bit;
+            return n + 1;
+        }
+
+        /**
+         * Tests the 256-byte big-endian form of a bloom in place, e.g. within an encoded block header.
+         *
+         * @param bloom the array containing the bloom
+         * @param offset    the index of the bloom
+         * @return  false if the entry is definitely absent, true if it may be present
+         */
+        public boolean test(byte[] bloom, int offset) {
+            for (int i = 0; i < byteIndices.length; i++) {
+                final int bits = byteBits[i];
+                if ((bloom[offset + byteIndices[i]] & bits) != bits) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @param bloom a bloom
+         * @return  false if the entry is definitely absent, true if it may be present
+         * @see LogsBloom#mightContain(Mask)
+         */
+        public boolean test(LogsBloom bloom) {
+            return bloom.mightContain(this);
+        }
+    }
+}
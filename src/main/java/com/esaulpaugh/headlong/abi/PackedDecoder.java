@@ -115,7 +115,7 @@ final class PackedDecoder {
         case TYPE_CODE_TUPLE: return type.dynamic
                                         ? decodeTuple(type.asTupleType(), bb, end)
                                         : decodeTupleStatic(type.asTupleType(), bb);
-        case TYPE_CODE_ADDRESS: return new Address(getBigInt(bb, type.byteLengthPacked(null)));
+        case TYPE_CODE_ADDRESS: return decodeAddress(bb);
         default: throw new AssertionError();
         }
     }
@@ -140,6 +140,11 @@ final class PackedDecoder {
         }
     }
 
+    private static Address decodeAddress(ByteBuffer bb) {
+        final int pos = bb.position();
+        return new Address(bb.getInt(pos), bb.getLong(pos + Integer.BYTES), bb.getLong(pos + Integer.BYTES + Long.BYTES));
+    }
+
     private static BigDecimal decodeBigDecimal(BigDecimalType type, int elementLen, ByteBuffer bb) {
 //            unscaled = new BigInteger(buffer, idx, elementLen); // Java 9+
         return new BigDecimal(type.unsigned ? getBigInt(bb, elementLen) : getSignedBigInt(bb, elementLen), type.scale);
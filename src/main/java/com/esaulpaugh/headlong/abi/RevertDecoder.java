@@ -0,0 +1,274 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Classifies and decodes the return data of reverted calls: the built-in {@code Error(string)} and
+ * {@code Panic(uint256)} plus any number of custom errors, e.g. from {@link ABIJSON#parseErrors(String)}. Errors are
+ * dispatched on the four-byte selector, read as an int, through an open-addressing table of primitive ints. Neither
+ * classifying revert data nor meeting an unknown selector allocates anything but the result or throws; arguments are
+ * decoded only on request. Immutable and thread-safe.
+ */
+public final class RevertDecoder {
+
+    public static final ContractError<Single<String>> ERROR = new ContractError<>("Error", TupleType.parse("(string)"));
+    public static final ContractError<Single<BigInteger>> PANIC = new ContractError<>("Panic", TupleType.parse("(uint256)"));
+
+    public enum Kind {
+        /** no revert data, e.g. from {@code revert()} or {@code require(cond)} */
+        EMPTY,
+        /** {@code Error(string)}, from {@code revert("...")} or {@code require(cond, "...")} */
+        ERROR,
+        /** {@code Panic(uint256)}, from a failed assertion, arithmetic overflow, out-of-bounds access, etc. */
+        PANIC,
+        /** a known custom error */
+        CUSTOM,
+        /** an unknown selector, or between one and three bytes of revert data */
+        UNKNOWN
+    }
+
+    private final int[] selectors;
+    private final int[] slots; // 1 + the index into the lists below, or 0 if empty
+    private final int mask;
+    private final List<ContractError<?>> errors;
+    private final List<Function> functions;
+
+    /**
+     * @param customErrors  the custom errors to recognize in addition to {@link #ERROR} and {@link #PANIC}
+     * @throws IllegalArgumentException if two errors share a selector
+     */
+    public RevertDecoder(Collection<? extends ContractError<?>> customErrors) {
+        final int n = customErrors.size() + 2;
+        this.errors = new ArrayList<>(n);
+        this.functions = new ArrayList<>(n);
+        final int capacity = Integer.highestOneBit(n * 2 - 1) << 1; // at most half full
+        this.selectors = new int[capacity];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        add(ERROR);
+        add(PANIC);
+        for (ContractError<?> e : customErrors) {
+            add(e);
+        }
+    }
+
+    private void add(ContractError<?> error) {
+        final Function f = error.function();
+        final int selector = ByteBuffer.wrap(f.selector()).getInt();
+        int i = hash(selector) & mask;
+        while (slots[i] != 0) {
+            if (selectors[i] == selector) {
+                final ContractError<?> existing = errors.get(slots[i] - 1);
+                if (existing.equals(error)) {
+                    return;
+                }
+                throw new IllegalArgumentException("selector collision: " + existing.getCanonicalSignature() + " and " + error.getCanonicalSignature());
+            }
+            i = (i + 1) & mask;
+        }
+        errors.add(error);
+        functions.add(f);
+        selectors[i] = selector;
+        slots[i] = errors.size();
+    }
+
+    private static int hash(int selector) {
+        return selector ^ (selector >>> 16); // selectors are already uniformly distributed hashes
+    }
+
+    /* the index of the error with the given selector, or -1 */
+    private int indexOf(int selector) {
+        int i = hash(selector) & mask;
+        int slot;
+        while ((slot = slots[i]) != 0) {
+            if (selectors[i] == selector) {
+                return slot - 1;
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return  the number of errors recognized, including {@link #ERROR} and {@link #PANIC}
+     */
+    public int size() {
+        return errors.size();
+    }
+
+    public Revert decode(byte[] revertData) {
+        return decode(ByteBuffer.wrap(revertData));
+    }
+
+    /**
+     * Classifies the revert data between the buffer's position and limit, without decoding any arguments. The buffer
+     * is not modified and must not be modified while the result is in use.
+     *
+     * @param revertData    the return data of a reverted call
+     * @return  the classification
+     */
+    public Revert decode(ByteBuffer revertData) {
+        final int remaining = revertData.remaining();
+        if (remaining < Function.SELECTOR_LEN) {
+            return new Revert(remaining == 0 ? Kind.EMPTY : Kind.UNKNOWN, 0, null, null, revertData);
+        }
+        final int selector = revertData.getInt(revertData.position());
+        final int idx = indexOf(selector);
+        if (idx < 0) {
+            return new Revert(Kind.UNKNOWN, selector, null, null, revertData);
+        }
+        final Kind kind = idx == 0 ? Kind.ERROR : idx == 1 ? Kind.PANIC : Kind.CUSTOM;
+        return new Revert(kind, selector, errors.get(idx), functions.get(idx), revertData);
+    }
+
+    /**
+     * Describes a panic code as listed in the Solidity documentation.
+     *
+     * @param code  the argument of {@code Panic(uint256)}
+     * @return  a short description, or null if the code is not defined
+     */
+    public static String panicDescription(BigInteger code) {
+        if (code.bitLength() > 8) {
+            return null;
+        }
+        switch (code.intValue()) {
+        case 0x00: return "generic compiler panic";
+        case 0x01: return "assertion failed";
+        case 0x11: return "arithmetic overflow or underflow";
+        case 0x12: return "division or modulo by zero";
+        case 0x21: return "invalid enum value";
+        case 0x22: return "incorrectly encoded storage byte array";
+        case 0x31: return "pop on empty array";
+        case 0x32: return "array index out of bounds";
+        case 0x41: return "out of memory";
+        case 0x51: return "call to zero-initialized internal function";
+        default: return null;
+        }
+    }
+
+    /** The classification of one revert, whose arguments are decoded on first request. Not thread-safe. */
+    public static final class Revert {
+
+        private final Kind kind;
+        private final int selector;
+        private final ContractError<?> error;
+        private final Function function;
+        private final ByteBuffer data;
+        private Tuple args;
+
+        private Revert(Kind kind, int selector, ContractError<?> error, Function function, ByteBuffer data) {
+            this.kind = kind;
+            this.selector = selector;
+            this.error = error;
+            this.function = function;
+            this.data = data;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        /**
+         * @return  the selector, or zero if there are fewer than four bytes of revert data
+         */
+        public int selector() {
+            return selector;
+        }
+
+        /**
+         * @return  the matching error, or null if the kind is {@link Kind#EMPTY} or {@link Kind#UNKNOWN}
+         */
+        public ContractError<?> error() {
+            return error;
+        }
+
+        /**
+         * Decodes the error's arguments on the first call.
+         *
+         * @return  the arguments, or null if the kind is {@link Kind#EMPTY} or {@link Kind#UNKNOWN}
+         * @throws IllegalArgumentException if the revert data is not a valid encoding of the error
+         * @throws java.nio.BufferUnderflowException    if the revert data is truncated
+         */
+        public Tuple args() {
+            if (args == null && function != null) {
+                args = function.decodeCall(data.duplicate());
+            }
+            return args;
+        }
+
+        /**
+         * @return  the message of an {@code Error(string)}, otherwise null
+         */
+        public String reason() {
+            return kind == Kind.ERROR ? args().get(0) : null;
+        }
+
+        /**
+         * @return  the code of a {@code Panic(uint256)}, otherwise null
+         */
+        public BigInteger panicCode() {
+            return kind == Kind.PANIC ? args().get(0) : null;
+        }
+
+        /**
+         * @return  the description of a {@code Panic(uint256)}'s code, or null if this is not a panic or the code is
+         *          not defined
+         * @see RevertDecoder#panicDescription(BigInteger)
+         */
+        public String panicDescription() {
+            return kind == Kind.PANIC ? RevertDecoder.panicDescription(panicCode()) : null;
+        }
+
+        /**
+         * Describes the revert, decoding its arguments if necessary. If they fail to decode, describes only the error's
+         * name and selector.
+         */
+        @Override
+        public String toString() {
+            switch (kind) {
+            case EMPTY: return "EMPTY";
+            case UNKNOWN:
+                if (data.remaining() < Function.SELECTOR_LEN) {
+                    final byte[] partial = new byte[data.remaining()];
+                    data.duplicate().get(partial);
+                    return "UNKNOWN 0x" + FastHex.encodeToString(partial);
+                }
+                return "UNKNOWN 0x" + selectorHex();
+            default:
+                try {
+                    return kind == Kind.PANIC
+                            ? "Panic(0x" + panicCode().toString(16) + ": " + panicDescription() + ")"
+                            : error.getName() + args();
+                } catch (IllegalArgumentException | BufferUnderflowException e) {
+                    return error.getName() + " 0x" + selectorHex() + " (malformed)";
+                }
+            }
+        }
+
+        private String selectorHex() {
+            return String.format("%08x", selector);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * A 32-byte log topic held as four big-endian longs, for use as a hash key and for comparison without byte loops.
+ */
+final class Topic {
+
+    static final int TOPIC_LEN = 32;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    final long w0;
+    final long w1;
+    final long w2;
+    final long w3;
+
+    private Topic(long w0, long w1, long w2, long w3) {
+        this.w0 = w0;
+        this.w1 = w1;
+        this.w2 = w2;
+        this.w3 = w3;
+    }
+
+    static Topic of(byte[] topic) {
+        if (topic.length != TOPIC_LEN) {
+            throw new IllegalArgumentException("topic length must be " + TOPIC_LEN + " but found " + topic.length);
+        }
+        return new Topic(get(topic, 0), get(topic, 8), get(topic, 16), get(topic, 24));
+    }
+
+    boolean matches(byte[] topic) {
+        return topic.length == TOPIC_LEN
+                && get(topic, 0) == w0
+                && get(topic, 8) == w1
+                && get(topic, 16) == w2
+                && get(topic, 24) == w3;
+    }
+
+    private static long get(byte[] src, int idx) {
+        return (long) LONGS.get(src, idx);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(w0 ^ w1 ^ w2 ^ w3);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof Topic)) {
+            return false;
+        }
+        final Topic other = (Topic) o;
+        return other.w0 == w0 && other.w1 == w1 && other.w2 == w2 && other.w3 == w3;
+    }
+}
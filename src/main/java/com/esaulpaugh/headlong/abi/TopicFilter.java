@@ -0,0 +1,98 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import java.util.Arrays;
+
+/**
+ * A precompiled {@code eth_getLogs}-style topic filter: for each topic position, either any topic or one of a set of
+ * alternatives. The alternatives are held as four longs each, so that testing a log topic takes at most four long
+ * comparisons per alternative, usually one. Immutable and thread-safe.
+ *
+ * @see Event#topicFilter(Object...)
+ */
+public final class TopicFilter {
+
+    private static final int MAX_TOPICS = 4;
+
+    private final Topic[][] positions; // null for any topic
+
+    private TopicFilter(Topic[][] positions) {
+        this.positions = positions;
+    }
+
+    /**
+     * @param topics    for each position, the acceptable 32-byte topics, or null or empty for any topic
+     * @return  the filter
+     * @throws IllegalArgumentException if there are more than four positions or a topic is not 32 bytes
+     */
+    public static TopicFilter of(byte[][]... topics) {
+        if (topics.length > MAX_TOPICS) {
+            throw new IllegalArgumentException("too many topic positions: " + topics.length + " > " + MAX_TOPICS);
+        }
+        final Topic[][] positions = new Topic[topics.length][];
+        for (int p = 0; p < topics.length; p++) {
+            final byte[][] alternatives = topics[p];
+            if (alternatives != null && alternatives.length != 0) {
+                positions[p] = new Topic[alternatives.length];
+                for (int i = 0; i < alternatives.length; i++) {
+                    positions[p][i] = Topic.of(alternatives[i]);
+                }
+            }
+        }
+        return new TopicFilter(positions);
+    }
+
+    /**
+     * @return  the number of topic positions constrained or explicitly left open
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * @param logTopics the topics of a log
+     * @return  true if every constrained position of the log holds one of its alternatives
+     */
+    public boolean matches(byte[][] logTopics) {
+        for (int p = 0; p < positions.length; p++) {
+            final Topic[] alternatives = positions[p];
+            if (alternatives != null && (p >= logTopics.length || !matchesAny(alternatives, logTopics[p]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesAny(Topic[] alternatives, byte[] topic) {
+        for (Topic t : alternatives) {
+            if (t.matches(topic)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(positions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TopicFilter && Arrays.deepEquals(((TopicFilter) o).positions, this.positions);
+    }
+}
@@ -241,12 +241,21 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
 
     @Override
     J decode(ByteBuffer bb, byte[] unitBuffer) {
+        return decode(bb, unitBuffer, null);
+    }
+
+    @Override
+    J decode(ByteBuffer bb, byte[] unitBuffer, DecodeContext ctx) {
+        if (ctx != null) {
+            ctx.enter();
+            ctx.chargeElements(size());
+        }
         final Object[] elements = new Object[size()];
         int i = 0;
         try {
             if (!dynamic) {
                 for ( ; i < elements.length; i++) {
-                    elements[i] = get(i).decode(bb, unitBuffer);
+                    elements[i] = get(i).decode(bb, unitBuffer, ctx);
                 }
             } else {
                 final int start = bb.position(); // save this value before offsets are decoded
@@ -254,7 +263,7 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
                 do {
                     ABIType<?> t = get(i);
                     if (!t.dynamic) {
-                        elements[i] = t.decode(bb, unitBuffer);
+                        elements[i] = t.decode(bb, unitBuffer, ctx);
                     } else {
                         offsets[i] = IntType.UINT30.decode(bb, unitBuffer) + 1; // read as 30-bit unsigned--no overflow possible
                     }
@@ -268,13 +277,16 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
                             /* LENIENT MODE; see https://github.com/ethereum/solidity/commit/3d1ca07e9b4b42355aa9be5db5c00048607986d1 */
                             bb.position(jump); // leniently jump to specified offset
                         }
-                        elements[i] = get(i).decode(bb, unitBuffer);
+                        elements[i] = DecodeContext.decodeTail(get(i), bb, unitBuffer, ctx);
                     }
                 } while (++i < elements.length);
             }
         } catch (IllegalArgumentException cause) {
             throw exceptionWithIndex(true, i, cause);
         }
+        if (ctx != null) {
+            ctx.exit();
+        }
         return Tuple.create(elements);
     }
 
@@ -301,17 +313,21 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
 
     private Object decodeIndex(ByteBuffer bb, int start, byte[] unitBuffer, int i) {
         try {
-            final ABIType<?> t = get(i);
-            bb.position(start + elementHeadOffsets[i]);
-            if (t.dynamic) {
-                bb.position(start + IntType.UINT30.decode(bb, unitBuffer));
-            }
-            return t.decode(bb, unitBuffer);
+            seek(bb, start, unitBuffer, i);
+            return get(i).decode(bb, unitBuffer);
         } catch (IllegalArgumentException cause) {
             throw exceptionWithIndex(true, i, cause);
         }
     }
 
+    /* positions the buffer at the encoding of element i of the tuple whose encoding begins at start */
+    void seek(ByteBuffer bb, int start, byte[] unitBuffer, int i) {
+        bb.position(start + elementHeadOffsets[i]);
+        if (get(i).dynamic) {
+            bb.position(start + IntType.UINT30.decode(bb, unitBuffer));
+        }
+    }
+
     private J decodeIndices(ByteBuffer bb, int... indices) {
         final Object[] results = new Object[size()];
         final int start = bb.position();
@@ -328,6 +344,9 @@ public final class TupleType<J extends Tuple> extends ABIType<J> implements Iter
     }
 
     static IllegalArgumentException exceptionWithIndex(boolean tuple, int i, IllegalArgumentException cause) {
+        if (cause instanceof DecodeException || DecodeException.isQuiet()) {
+            return ((DecodeException) DecodeException.wrap(cause)).at(tuple, i);
+        }
         return new IllegalArgumentException((tuple ? "tuple index " : "array index ") + i + ": " + cause.getMessage(), cause);
     }
 
@@ -33,9 +33,9 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
     // 69 non-BigDecimalType entries in BASE_TYPE_MAP
     // - 3 which are only aliases to instances already counted (int, uint, decimal)
     // + 0 unique instances in LEGACY_BASE_TYPE_MAP
-    // + 3 instances not in the maps (uint21, uint31, and ADDRESS_INNER)
+    // + 2 instances not in the maps (uint21, uint31)
     // =
-    private static final long INSTANCE_LIMIT = 69L;
+    private static final long INSTANCE_LIMIT = 68L;
     private static final AtomicLong INSTANCE_COUNT = new AtomicLong(0L);
 
     static final int UNIT_LENGTH_BITS = 256;
@@ -147,55 +147,65 @@ public abstract class UnitType<J> extends ABIType<J> { // J generally extends Nu
 
     final IllegalArgumentException err(ByteBuffer bb) {
         bb.position(bb.position() - UNIT_LENGTH_BYTES);
+        if (DecodeException.isQuiet()) {
+            final byte[] unit = ABIType.newUnitBuffer();
+            bb.get(unit);
+            return new DecodeException(DecodeResult.Status.ILLEGAL_VALUE, () -> rangeMessage(unsigned ? new BigInteger(1, unit) : new BigInteger(unit)));
+        }
         decodeValid(bb, ABIType.newUnitBuffer());
         throw new AssertionError();
     }
 
     final int validatePrimitive(long longVal) {
         if (longVal < minLong) {
-            throw negative(Integers.bitLen(~longVal));
+            throw new IllegalArgumentException(negative(Integers.bitLen(~longVal)));
         }
         if (longVal > maxLong) {
-            throw nonNegative(Integers.bitLen(longVal));
+            throw new IllegalArgumentException(nonNegative(Integers.bitLen(longVal)));
         }
         return UNIT_LENGTH_BYTES;
     }
 
     final int validateBigInt(BigInteger bigIntVal) {
-        if (bigIntVal.compareTo(min) < 0) {
-            throw negative(bigIntVal.bitLength());
-        }
-        if (bigIntVal.compareTo(max) > 0) {
-            throw nonNegative(bigIntVal.bitLength());
+        if (bigIntVal.compareTo(min) < 0 || bigIntVal.compareTo(max) > 0) {
+            throw new IllegalArgumentException(rangeMessage(bigIntVal));
         }
         return UNIT_LENGTH_BYTES;
     }
 
-    private IllegalArgumentException negative(int actual) {
+    private String rangeMessage(BigInteger outOfRange) {
+        return outOfRange.signum() < 0
+                ? negative(outOfRange.bitLength())
+                : nonNegative(outOfRange.bitLength());
+    }
+
+    private String negative(int actual) {
         if (unsigned) {
-            return new IllegalArgumentException("signed value given for unsigned type");
+            return "signed value given for unsigned type";
         }
         if (actual >= bitLength) {
-            return new IllegalArgumentException("signed val exceeds bit limit: " + actual + " >= " + bitLength);
+            return "signed val exceeds bit limit: " + actual + " >= " + bitLength;
         }
         throw new AssertionError();
     }
 
-    private IllegalArgumentException nonNegative(int actual) {
+    private String nonNegative(int actual) {
         if (unsigned) {
             if (actual > bitLength) {
-                return new IllegalArgumentException("unsigned val exceeds bit limit: " + actual + " > " + bitLength);
+                return "unsigned val exceeds bit limit: " + actual + " > " + bitLength;
             }
         } else if (actual >= bitLength) {
-            return new IllegalArgumentException("signed val exceeds bit limit: " + actual + " >= " + bitLength);
+            return "signed val exceeds bit limit: " + actual + " >= " + bitLength;
         }
         throw new AssertionError();
     }
 
     final BigInteger decodeValid(ByteBuffer bb, byte[] unitBuffer) {
         bb.get(unitBuffer, 0, UNIT_LENGTH_BYTES);
-        BigInteger bi = unsigned ? new BigInteger(1, unitBuffer) : new BigInteger(unitBuffer);
-        validateBigInt(bi);
+        final BigInteger bi = unsigned ? new BigInteger(1, unitBuffer) : new BigInteger(unitBuffer);
+        if (bi.compareTo(min) < 0 || bi.compareTo(max) > 0) {
+            throw DecodeException.create(DecodeResult.Status.ILLEGAL_VALUE, () -> rangeMessage(bi));
+        }
         return bi;
     }
 //======================================================================================================================
@@ -0,0 +1,283 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A read-only view of an Ethereum block header, from Frontier (15 fields) through Prague (21 fields). Wrapping a header
+ * checks that every field is a string of the expected length and records the location of each field's data once;
+ * accessors then read directly from the underlying bytes. The block hash is computed over the header's encoding in place
+ * and cached. Fields introduced by later forks are reported as absent ({@code null}, or {@code -1} for integers) when
+ * the header predates them.
+ */
+public final class BlockHeader {
+
+    public static final int MIN_FIELDS = 15;
+    public static final int MAX_FIELDS = 21;
+
+    private static final int PARENT_HASH = 0;
+    private static final int OMMERS_HASH = 1;
+    private static final int COINBASE = 2;
+    private static final int STATE_ROOT = 3;
+    private static final int TRANSACTIONS_ROOT = 4;
+    private static final int RECEIPTS_ROOT = 5;
+    private static final int LOGS_BLOOM = 6;
+    private static final int DIFFICULTY = 7;
+    private static final int NUMBER = 8;
+    private static final int GAS_LIMIT = 9;
+    private static final int GAS_USED = 10;
+    private static final int TIMESTAMP = 11;
+    private static final int EXTRA_DATA = 12;
+    private static final int MIX_HASH = 13;
+    private static final int NONCE = 14;
+    private static final int BASE_FEE_PER_GAS = 15;
+    private static final int WITHDRAWALS_ROOT = 16;
+    private static final int BLOB_GAS_USED = 17;
+    private static final int EXCESS_BLOB_GAS = 18;
+    private static final int PARENT_BEACON_BLOCK_ROOT = 19;
+    private static final int REQUESTS_HASH = 20;
+
+    private static final int HASH_LEN = 32;
+    /* the required data length of each field, or -1 if variable */
+    private static final int[] FIELD_LENGTHS = {
+            HASH_LEN, HASH_LEN, 20, HASH_LEN, HASH_LEN, HASH_LEN, 256, -1, -1, -1, -1, -1, -1, HASH_LEN, 8,
+            -1, HASH_LEN, -1, -1, HASH_LEN, HASH_LEN
+    };
+
+    private final RLPList list;
+    private final long[] fieldPrefixes;
+    private volatile byte[] hash;
+
+    private BlockHeader(RLPList list, long[] fieldPrefixes) {
+        this.list = list;
+        this.fieldPrefixes = fieldPrefixes;
+    }
+
+    public static BlockHeader wrap(byte[] buffer) {
+        return wrap(RLPDecoder.RLP_STRICT.wrapList(buffer));
+    }
+
+    /**
+     * Wraps the header encoded by {@code list}, sharing its underlying bytes.
+     *
+     * @param list  the RLP-encoded header
+     * @return  a view of the header
+     * @throws IllegalArgumentException if the header has too few or too many fields, or a field is malformed
+     */
+    public static BlockHeader wrap(RLPList list) {
+        final byte[] buffer = list.buffer;
+        final long[] prefixes = new long[MAX_FIELDS];
+        int n = 0;
+        for (int idx = list.dataIndex; idx < list.endIndex; n++) {
+            final long prefix = RLPDecoder.decodePrefix(buffer, idx, list.endIndex, false);
+            if (n == MAX_FIELDS) {
+                throw new IllegalArgumentException("too many fields: > " + MAX_FIELDS);
+            }
+            if (!DataType.type(buffer[idx]).isString) {
+                throw new IllegalArgumentException("field " + n + ": expected string @ " + idx);
+            }
+            final int dataLength = RLPDecoder.dataLength(prefix);
+            final int expectedLength = FIELD_LENGTHS[n];
+            if (expectedLength >= 0 && dataLength != expectedLength) {
+                throw new IllegalArgumentException("field " + n + ": expected " + expectedLength + " bytes, found " + dataLength);
+            }
+            prefixes[n] = prefix;
+            idx = RLPDecoder.dataIndex(prefix) + dataLength;
+        }
+        if (n < MIN_FIELDS) {
+            throw new IllegalArgumentException("too few fields: " + n + " < " + MIN_FIELDS);
+        }
+        return new BlockHeader(list, n == MAX_FIELDS ? prefixes : Arrays.copyOf(prefixes, n));
+    }
+
+    /**
+     * @return  the underlying list
+     */
+    public RLPList list() {
+        return list;
+    }
+
+    public int fieldCount() {
+        return fieldPrefixes.length;
+    }
+
+    public RLPItem field(int i) {
+        return list.get(i);
+    }
+
+    /**
+     * Returns the Keccak-256 hash of the header's encoding, computing it on the first call.
+     *
+     * @return  a copy of the 32-byte block hash
+     */
+    public byte[] hash() {
+        return blockHash().clone();
+    }
+
+    private byte[] blockHash() {
+        byte[] h = hash;
+        if (h == null) {
+            final Keccak keccak = new Keccak(256);
+            keccak.update(list.buffer, list.index, list.encodingLength());
+            hash = h = keccak.digest();
+        }
+        return h;
+    }
+
+    /**
+     * Compares this header's (cached) hash against {@code child}'s parent hash in place.
+     *
+     * @param child a header
+     * @return  whether {@code child} names this header as its parent
+     */
+    public boolean isParentOf(BlockHeader child) {
+        final int parentHashIdx = RLPDecoder.dataIndex(child.fieldPrefixes[PARENT_HASH]);
+        return Arrays.equals(blockHash(), 0, HASH_LEN, child.list.buffer, parentHashIdx, parentHashIdx + HASH_LEN);
+    }
+
+    public byte[] parentHash() {
+        return bytes(PARENT_HASH);
+    }
+
+    public byte[] ommersHash() {
+        return bytes(OMMERS_HASH);
+    }
+
+    public byte[] coinbase() {
+        return bytes(COINBASE);
+    }
+
+    public byte[] stateRoot() {
+        return bytes(STATE_ROOT);
+    }
+
+    public byte[] transactionsRoot() {
+        return bytes(TRANSACTIONS_ROOT);
+    }
+
+    public byte[] receiptsRoot() {
+        return bytes(RECEIPTS_ROOT);
+    }
+
+    public byte[] logsBloom() {
+        return bytes(LOGS_BLOOM);
+    }
+
+    public BigInteger difficulty() {
+        return bigInt(DIFFICULTY);
+    }
+
+    public long number() {
+        return uint64(NUMBER);
+    }
+
+    public long gasLimit() {
+        return uint64(GAS_LIMIT);
+    }
+
+    public long gasUsed() {
+        return uint64(GAS_USED);
+    }
+
+    public long timestamp() {
+        return uint64(TIMESTAMP);
+    }
+
+    public byte[] extraData() {
+        return bytes(EXTRA_DATA);
+    }
+
+    /**
+     * @return  the mix hash, which since the Merge holds the beacon chain's {@code prevRandao}
+     */
+    public byte[] mixHash() {
+        return bytes(MIX_HASH);
+    }
+
+    public byte[] nonce() {
+        return bytes(NONCE);
+    }
+
+    /**
+     * @return  the base fee per gas, or null before London
+     */
+    public BigInteger baseFeePerGas() {
+        return has(BASE_FEE_PER_GAS) ? bigInt(BASE_FEE_PER_GAS) : null;
+    }
+
+    /**
+     * @return  the withdrawals root, or null before Shanghai
+     */
+    public byte[] withdrawalsRoot() {
+        return has(WITHDRAWALS_ROOT) ? bytes(WITHDRAWALS_ROOT) : null;
+    }
+
+    /**
+     * @return  the blob gas used, or -1 before Cancun
+     */
+    public long blobGasUsed() {
+        return has(BLOB_GAS_USED) ? uint64(BLOB_GAS_USED) : -1L;
+    }
+
+    /**
+     * @return  the excess blob gas, or -1 before Cancun
+     */
+    public long excessBlobGas() {
+        return has(EXCESS_BLOB_GAS) ? uint64(EXCESS_BLOB_GAS) : -1L;
+    }
+
+    /**
+     * @return  the parent beacon block root, or null before Cancun
+     */
+    public byte[] parentBeaconBlockRoot() {
+        return has(PARENT_BEACON_BLOCK_ROOT) ? bytes(PARENT_BEACON_BLOCK_ROOT) : null;
+    }
+
+    /**
+     * @return  the EIP-7685 requests hash, or null before Prague
+     */
+    public byte[] requestsHash() {
+        return has(REQUESTS_HASH) ? bytes(REQUESTS_HASH) : null;
+    }
+
+    private boolean has(int field) {
+        return field < fieldPrefixes.length;
+    }
+
+    private long uint64(int field) {
+        final long prefix = fieldPrefixes[field];
+        final int dataLength = RLPDecoder.dataLength(prefix);
+        if (dataLength > Long.BYTES) {
+            throw new IllegalArgumentException("field " + field + " exceeds 64 bits");
+        }
+        return Integers.getLong(list.buffer, RLPDecoder.dataIndex(prefix), dataLength, false);
+    }
+
+    private BigInteger bigInt(int field) {
+        final long prefix = fieldPrefixes[field];
+        return Integers.getBigInt(list.buffer, RLPDecoder.dataIndex(prefix), RLPDecoder.dataLength(prefix), false);
+    }
+
+    private byte[] bytes(int field) {
+        final int dataIndex = RLPDecoder.dataIndex(fieldPrefixes[field]);
+        return Arrays.copyOfRange(list.buffer, dataIndex, dataIndex + RLPDecoder.dataLength(fieldPrefixes[field]));
+    }
+}
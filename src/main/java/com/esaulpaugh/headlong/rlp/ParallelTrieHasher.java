@@ -0,0 +1,125 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Strings;
+import com.joemelsha.crypto.hash.Keccak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the reference to the subtrie holding keys {@code [lo, hi)}, below nibble {@code depth}. Ranges larger than
+ * the threshold are partitioned on the first nibble at which their keys diverge, the resulting branch's subtries are
+ * hashed in parallel, and the branch (plus an extension for any shared path) is encoded from their references. Smaller
+ * ranges are hashed sequentially by a {@link TrieRootBuilder}. Because the trie's structure is canonical, the result is
+ * identical to that of sequential hashing.
+ */
+final class ParallelTrieHasher extends RecursiveTask<byte[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[][] keys; // sorted nibbles
+    private final byte[][] values;
+    private final int lo;
+    private final int hi;
+    private final int depth;
+    private final int threshold;
+
+    ParallelTrieHasher(byte[][] keys, byte[][] values, int lo, int hi, int depth, int threshold) {
+        this.keys = keys;
+        this.values = values;
+        this.lo = lo;
+        this.hi = hi;
+        this.depth = depth;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected byte[] compute() {
+        if (hi - lo <= threshold) {
+            final TrieRootBuilder builder = new TrieRootBuilder();
+            for (int i = lo; i < hi; i++) {
+                builder.putNibbles(keys[i], depth, values[i]);
+            }
+            return builder.rootRef();
+        }
+        final byte[] first = keys[lo];
+        final byte[] last = keys[hi - 1];
+        int common = depth;
+        while (first[common] == last[common]) { // keys are sorted and prefix-free, so first and last diverge
+            common++;
+        }
+        final List<ParallelTrieHasher> subtasks = new ArrayList<>(16);
+        final int[] nibbles = new int[16];
+        int start = lo;
+        while (start < hi) {
+            final int nibble = keys[start][common];
+            int end = start + 1;
+            while (end < hi && keys[end][common] == nibble) {
+                end++;
+            }
+            nibbles[subtasks.size()] = nibble;
+            subtasks.add(new ParallelTrieHasher(keys, values, start, end, common + 1, threshold));
+            start = end;
+        }
+        invokeAll(subtasks);
+
+        final RLPWriter w = new RLPWriter(16 * TrieRootBuilder.MAX_REF_LEN + 8).beginList();
+        for (int nibble = 0, s = 0; nibble < 16; nibble++) {
+            if (s < subtasks.size() && nibbles[s] == nibble) {
+                final byte[] ref = subtasks.get(s++).join();
+                w.writeRaw(ref, 0, ref.length);
+            } else {
+                w.writeString(Strings.EMPTY_BYTE_ARRAY);
+            }
+        }
+        final Keccak keccak = new Keccak(256);
+        final byte[] branchRef = ref(keccak, w.writeString(Strings.EMPTY_BYTE_ARRAY).endList());
+        if (common == depth) {
+            return branchRef;
+        }
+        w.reset();
+        w.beginList();
+        w.writeString(hexPrefix(first, depth, common));
+        w.writeRaw(branchRef, 0, branchRef.length);
+        return ref(keccak, w.endList());
+    }
+
+    private static byte[] ref(Keccak keccak, RLPWriter encoded) {
+        final int len = encoded.size();
+        if (len < TrieRootBuilder.HASH_LEN) {
+            return encoded.toByteArray();
+        }
+        keccak.update(encoded.buffer(), 0, len);
+        return RLPEncoder.string(keccak.digest());
+    }
+
+    /* the hex-prefix encoding of an extension path */
+    private static byte[] hexPrefix(byte[] nibbles, int from, int to) {
+        final int len = to - from;
+        final byte[] out = new byte[len / 2 + 1];
+        int i = from;
+        if ((len & 1) != 0) {
+            out[0] = (byte) (0x10 | nibbles[i++]);
+        }
+        for (int j = 1; i < to; i += 2) {
+            out[j++] = (byte) ((nibbles[i] << 4) | nibbles[i + 1]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable view of a single RLP item (either a string or list) inside a {@link ByteBuffer}, which may be direct or
+ * memory-mapped (e.g. via {@link java.nio.channels.FileChannel#map}). All indices are absolute; the buffer's position and
+ * limit are never modified. Accessors read directly from the buffer without first copying the item onto the heap.
+ *
+ * @see RLPDecoder#wrap(ByteBuffer, int)
+ */
+public final class RLPBufferItem {
+
+    final ByteBuffer buffer;
+    public final int index;
+
+    public final int dataIndex;
+    public final int dataLength;
+    public final int endIndex;
+
+    RLPBufferItem(ByteBuffer buffer, int index, int dataIndex, int dataLength, int endIndex) {
+        this.buffer = buffer;
+        this.index = index;
+        this.dataIndex = dataIndex;
+        this.dataLength = dataLength;
+        this.endIndex = endIndex;
+    }
+
+    public DataType type() {
+        return DataType.type(buffer.get(index));
+    }
+
+    public boolean isString() {
+        return type().isString;
+    }
+
+    public boolean isList() {
+        return !type().isString;
+    }
+
+    public int encodingLength() {
+        return endIndex - index;
+    }
+
+    /**
+     * Returns a zero-copy view of this item's RLP encoding, including prefix.
+     *
+     * @return  a new buffer sharing content with the underlying buffer
+     */
+    public ByteBuffer encodingSlice() {
+        return buffer.slice(index, encodingLength());
+    }
+
+    /**
+     * Returns a zero-copy view of this item's data, excluding prefix.
+     *
+     * @return  a new buffer sharing content with the underlying buffer
+     */
+    public ByteBuffer dataSlice() {
+        return buffer.slice(dataIndex, dataLength);
+    }
+
+    public byte[] encoding() {
+        final byte[] enc = new byte[encodingLength()];
+        buffer.get(index, enc);
+        return enc;
+    }
+
+    public byte[] data() {
+        final byte[] data = new byte[dataLength];
+        copyData(data, 0);
+        return data;
+    }
+
+    public int copyData(byte[] dest, int destIndex) {
+        buffer.get(dataIndex, dest, destIndex, dataLength);
+        return destIndex + dataLength;
+    }
+
+    public void copyData(ByteBuffer dest) {
+        dest.put(dest.position(), buffer, dataIndex, dataLength);
+        dest.position(dest.position() + dataLength);
+    }
+
+    public boolean asBoolean() {
+        return dataLength != 0 && buffer.get(index) != 0x00;
+    }
+
+    public int asInt(boolean lenient) {
+        if (dataLength > Integer.BYTES) {
+            throw new IllegalArgumentException("len is out of range: " + dataLength);
+        }
+        return (int) Integers.getLong(buffer, dataIndex, dataLength, lenient);
+    }
+
+    public long asLong(boolean lenient) {
+        return Integers.getLong(buffer, dataIndex, dataLength, lenient);
+    }
+
+    public BigInteger asBigInt(boolean lenient) {
+        if (dataLength != 0 && !lenient && buffer.get(dataIndex) == 0x00) {
+            throw new IllegalArgumentException("deserialized integers with leading zeroes are invalid; index: " + dataIndex + ", len: " + dataLength);
+        }
+        return new BigInteger(1, data());
+    }
+
+    public int asInt() {
+        return asInt(false);
+    }
+
+    public long asLong() {
+        return asLong(false);
+    }
+
+    public BigInteger asBigInt() {
+        return asBigInt(false);
+    }
+
+    /**
+     * Copies this item onto the heap.
+     *
+     * @return  an equivalent {@link RLPItem} backed by a new array
+     */
+    public RLPItem toItem() {
+        return RLPDecoder.RLP_LENIENT.wrapItem(encoding());
+    }
+
+    /**
+     * Returns an iterator over the elements of this list item. Each element is validated by {@code decoder} as it is
+     * reached.
+     *
+     * @param decoder   the decoder with which to validate the elements
+     * @return  the iterator
+     * @throws IllegalStateException    if this item is not a list
+     */
+    public Iterator<RLPBufferItem> iterator(final RLPDecoder decoder) {
+        if (!isList()) {
+            throw new IllegalStateException("not a list");
+        }
+        return new Iterator<RLPBufferItem>() {
+
+            int idx = dataIndex;
+
+            @Override
+            public boolean hasNext() {
+                return idx < endIndex;
+            }
+
+            @Override
+            public RLPBufferItem next() {
+                if (hasNext()) {
+                    RLPBufferItem next = decoder.wrap(buffer, idx, endIndex);
+                    idx = next.endIndex;
+                    return next;
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Notation.encodeToString(encoding(), 0, encodingLength());
+    }
+}
@@ -0,0 +1,182 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An RLP list composed of existing items without copying them. Only the list's prefix is computed; each element
+ * remains a reference to its original buffer range until the list is written out, e.g. by a single gathering write to
+ * a {@link GatheringByteChannel}. Useful for relaying cached encodings (such as transactions) inside a new list.
+ * <p>
+ * Since no bytes are copied, the composite reflects any later modification of its elements' underlying arrays.
+ *
+ * @see RLPList#wrap(RLPItem...)
+ */
+public final class RLPCompositeList {
+
+    private final RLPItem[] elements;
+    private final byte[] prefix;
+    private final int dataLength;
+
+    private RLPCompositeList(RLPItem[] elements) {
+        long sum = 0;
+        for (RLPItem e : elements) {
+            sum += Objects.requireNonNull(e).encodingLength();
+        }
+        if (sum > Integer.MAX_VALUE - 9) {
+            throw new ArithmeticException("integer overflow");
+        }
+        final int dataLen = (int) sum;
+        final ByteBuffer bb = ByteBuffer.allocate(RLPEncoder.itemLen(dataLen) - dataLen);
+        RLPEncoder.insertListPrefix(dataLen, bb);
+        this.elements = elements;
+        this.prefix = bb.array();
+        this.dataLength = dataLen;
+    }
+
+    public static RLPCompositeList wrap(RLPItem... elements) {
+        return new RLPCompositeList(elements.clone());
+    }
+
+    /**
+     * @param elements the RLP-encoded elements of the list
+     * @return the composite list
+     */
+    public static RLPCompositeList wrap(Iterable<RLPItem> elements) {
+        final List<RLPItem> list = new ArrayList<>();
+        for (RLPItem e : elements) {
+            list.add(e);
+        }
+        return new RLPCompositeList(list.toArray(RLPItem.EMPTY_ARRAY));
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    public RLPItem get(int i) {
+        return elements[i];
+    }
+
+    public int dataLength() {
+        return dataLength;
+    }
+
+    public int encodingLength() {
+        return prefix.length + dataLength;
+    }
+
+    public byte[] prefix() {
+        return Arrays.copyOf(prefix, prefix.length);
+    }
+
+    /**
+     * Returns buffers which together hold this list's encoding, in order: first the prefix, then the elements.
+     * Elements which are adjacent in the same underlying array share a single buffer. The returned buffers are
+     * read-only views of the elements' arrays; no payload bytes are copied.
+     *
+     * @return  the buffers, suitable for {@link GatheringByteChannel#write(ByteBuffer[])}
+     */
+    public ByteBuffer[] buffers() {
+        final ByteBuffer[] buffers = new ByteBuffer[1 + elements.length];
+        buffers[0] = ByteBuffer.wrap(prefix).asReadOnlyBuffer();
+        int n = 1;
+        int i = 0;
+        while (i < elements.length) {
+            final RLPItem first = elements[i];
+            int end = first.endIndex;
+            while (++i < elements.length && elements[i].buffer == first.buffer && elements[i].index == end) {
+                end = elements[i].endIndex;
+            }
+            buffers[n++] = ByteBuffer.wrap(first.buffer, first.index, end - first.index).asReadOnlyBuffer();
+        }
+        return n == buffers.length ? buffers : Arrays.copyOf(buffers, n);
+    }
+
+    /**
+     * Writes this list's encoding to a channel using gathering writes, repeating until every byte has been written.
+     * Intended for blocking channels; for non-blocking channels, write the {@link #buffers()} directly.
+     *
+     * @param channel   the destination
+     * @return  the number of bytes written, which is {@link #encodingLength()}
+     * @throws IOException  if an I/O error occurs
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        final ByteBuffer[] buffers = buffers();
+        final long total = encodingLength();
+        long written = 0;
+        int offset = 0;
+        while (written < total) {
+            written += channel.write(buffers, offset, buffers.length - offset);
+            while (offset < buffers.length && !buffers[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+        return written;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(prefix);
+        for (RLPItem e : elements) {
+            e.copy(out);
+        }
+    }
+
+    /**
+     * Inserts this list's encoding into the specified buffer, starting at {@code destIndex}.
+     *
+     * @param dest  the destination array into which the bytes will be copied
+     * @param destIndex the index into the destination array
+     * @return  the index into {@code dest} immediately after the last byte of the copied encoding
+     */
+    public int copy(byte[] dest, int destIndex) {
+        System.arraycopy(prefix, 0, dest, destIndex, prefix.length);
+        destIndex += prefix.length;
+        for (RLPItem e : elements) {
+            destIndex = e.copy(dest, destIndex);
+        }
+        return destIndex;
+    }
+
+    public byte[] encoding() {
+        final byte[] enc = new byte[encodingLength()];
+        copy(enc, 0);
+        return enc;
+    }
+
+    /**
+     * Copies this list into a contiguous array.
+     *
+     * @return  an equivalent {@link RLPList}
+     */
+    public RLPList toList() {
+        final byte[] enc = encoding();
+        return new RLPList(enc, 0, prefix.length, dataLength, enc.length);
+    }
+
+    @Override
+    public String toString() {
+        return Notation.encodeToString(encoding(), 0, encodingLength());
+    }
+}
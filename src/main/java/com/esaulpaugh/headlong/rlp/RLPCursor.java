@@ -0,0 +1,254 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A reusable, mutable cursor for traversing RLP data without allocating an {@link RLPItem} per element. Items are
+ * validated exactly as by {@link RLPDecoder#wrap(byte[], int)} as they are reached.
+ * <p>
+ * The cursor starts positioned before the first item of a sequence. {@link #next()} advances to the following item in
+ * the current container, {@link #enter()} descends into the current list item, and {@link #exit()} returns to the
+ * enclosing container with that list as the current item. Not thread-safe.
+ *
+ * <pre>{@code
+ * RLPCursor c = RLPDecoder.RLP_STRICT.cursor(encoding);
+ * c.next();
+ * c.enter();
+ * while (c.next()) {
+ *     long val = c.asLong();
+ * }
+ * c.exit();
+ * }</pre>
+ */
+public final class RLPCursor {
+
+    private static final int FRAME_LEN = 4;
+    private static final int NONE = -1;
+
+    private final boolean lenient;
+    private byte[] buffer;
+
+    private int containerEnd;
+    private int nextIndex;
+
+    private int index = NONE;
+    private int dataIndex;
+    private int dataLength;
+
+    private int[] stack = new int[FRAME_LEN * 8];
+    private int depth;
+
+    RLPCursor(boolean lenient) {
+        this.lenient = lenient;
+    }
+
+    /**
+     * Positions this cursor before the first item of the sequence occupying {@code buffer} from {@code index}
+     * (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer    the array containing the sequence
+     * @param index the index of the sequence
+     * @param end   the end of the sequence
+     * @return  this cursor
+     */
+    public RLPCursor reset(byte[] buffer, int index, int end) {
+        if (index < 0 || end > buffer.length || index > end) {
+            throw new IndexOutOfBoundsException("[" + index + ", " + end + ") not within [0, " + buffer.length + ")");
+        }
+        this.buffer = buffer;
+        this.containerEnd = end;
+        this.nextIndex = index;
+        this.index = NONE;
+        this.depth = 0;
+        return this;
+    }
+
+    /**
+     * Advances to the next item in the current container.
+     *
+     * @return  true if there was a next item, false if the end of the container has been reached
+     * @throws IllegalArgumentException if the next item is malformed
+     */
+    public boolean next() {
+        if (nextIndex < containerEnd) {
+            final long prefix = RLPDecoder.decodePrefix(buffer, nextIndex, containerEnd, lenient);
+            index = nextIndex;
+            dataIndex = RLPDecoder.dataIndex(prefix);
+            dataLength = RLPDecoder.dataLength(prefix);
+            nextIndex = dataIndex + dataLength;
+            return true;
+        }
+        index = NONE;
+        return false;
+    }
+
+    /**
+     * Descends into the current item, which must be a list. The cursor is then positioned before the list's first
+     * element.
+     *
+     * @throws IllegalStateException    if the current item is not a list
+     */
+    public void enter() {
+        if (!isList()) {
+            throw new IllegalStateException("current item is not a list");
+        }
+        int f = depth * FRAME_LEN;
+        if (f == stack.length) {
+            stack = Arrays.copyOf(stack, f << 1);
+        }
+        stack[f++] = containerEnd;
+        stack[f++] = index;
+        stack[f++] = dataIndex;
+        stack[f] = dataLength;
+        depth++;
+        containerEnd = dataIndex + dataLength;
+        nextIndex = dataIndex;
+        index = NONE;
+    }
+
+    /**
+     * Returns to the enclosing container, skipping any remaining elements of the current list. The list becomes the
+     * current item once again.
+     *
+     * @throws IllegalStateException    if the cursor is at the top level
+     */
+    public void exit() {
+        if (depth == 0) {
+            throw new IllegalStateException("already at top level");
+        }
+        depth--;
+        int f = depth * FRAME_LEN;
+        containerEnd = stack[f++];
+        index = stack[f++];
+        dataIndex = stack[f++];
+        dataLength = stack[f];
+        nextIndex = dataIndex + dataLength;
+    }
+
+    /**
+     * @return  the number of lists currently entered
+     */
+    public int depth() {
+        return depth;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    boolean lenient() {
+        return lenient;
+    }
+
+    public boolean hasItem() {
+        return index != NONE;
+    }
+
+    private int requireItem() {
+        if (index == NONE) {
+            throw new IllegalStateException("no current item");
+        }
+        return index;
+    }
+
+    public DataType type() {
+        return DataType.type(buffer[requireItem()]);
+    }
+
+    public boolean isString() {
+        return type().isString;
+    }
+
+    public boolean isList() {
+        return index != NONE && !type().isString;
+    }
+
+    public int index() {
+        return requireItem();
+    }
+
+    public int dataIndex() {
+        requireItem();
+        return dataIndex;
+    }
+
+    public int dataLength() {
+        requireItem();
+        return dataLength;
+    }
+
+    public int endIndex() {
+        requireItem();
+        return dataIndex + dataLength;
+    }
+
+    public int encodingLength() {
+        return endIndex() - index;
+    }
+
+    public int asInt(boolean lenient) {
+        requireItem();
+        return Integers.getInt(buffer, dataIndex, dataLength, lenient);
+    }
+
+    public long asLong(boolean lenient) {
+        requireItem();
+        return Integers.getLong(buffer, dataIndex, dataLength, lenient);
+    }
+
+    public int asInt() {
+        return asInt(false);
+    }
+
+    public long asLong() {
+        return asLong(false);
+    }
+
+    /**
+     * Inserts the current item's data into the specified buffer, starting at {@code destIndex}.
+     *
+     * @param dest  the destination array into which the bytes will be copied
+     * @param destIndex the index into the destination array
+     * @return  the index into {@code dest} immediately after the last byte of the copied data
+     */
+    public int copyData(byte[] dest, int destIndex) {
+        requireItem();
+        System.arraycopy(buffer, dataIndex, dest, destIndex, dataLength);
+        return destIndex + dataLength;
+    }
+
+    public void copyData(ByteBuffer dest) {
+        requireItem();
+        dest.put(buffer, dataIndex, dataLength);
+    }
+
+    /**
+     * Materializes the current item. Unlike the rest of this class's methods, allocates a new object.
+     *
+     * @return  a new {@link RLPItem} sharing this cursor's buffer
+     */
+    public RLPItem item() {
+        final int end = endIndex();
+        return DataType.type(buffer[index]).isString
+                ? new RLPString(buffer, index, dataIndex, dataLength, end)
+                : new RLPList(buffer, index, dataIndex, dataLength, end);
+    }
+}
@@ -20,7 +20,10 @@ import com.esaulpaugh.headlong.util.Strings;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Stream;
@@ -43,8 +46,11 @@ public final class RLPDecoder {
 
     public final boolean lenient;
 
+    private final ThreadLocal<RLPValidator> unlimited;
+
     private RLPDecoder(boolean lenient) {
         this.lenient = lenient;
+        this.unlimited = ThreadLocal.withInitial(() -> validator(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE));
     }
 
     public Iterator<RLPItem> sequenceIterator(byte[] buffer) {
@@ -106,6 +112,57 @@ public final class RLPDecoder {
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iter, Spliterator.ORDERED), false);
     }
 
+    public Stream<RLPItem> stream(byte[] buffer) {
+        return stream(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the sequence of RLP items between {@code index} and {@code end} which,
+     * if made parallel, splits exactly on item boundaries while preserving encounter order. The boundaries are found,
+     * and the items' prefixes validated, when the terminal operation begins.
+     *
+     * @param buffer    the array containing the sequence
+     * @param index the index of the sequence
+     * @param end   the end of the sequence
+     * @return  a splittable stream of the items
+     */
+    public Stream<RLPItem> stream(byte[] buffer, int index, int end) {
+        return StreamSupport.stream(() -> spliterator(buffer, index, end), RLPSequenceSpliterator.CHARACTERISTICS, false);
+    }
+
+    /**
+     * Scans the prefixes of the top-level items between {@code index} and {@code end} and returns a {@link Spliterator}
+     * over the items which splits on item boundaries.
+     *
+     * @param buffer    the array containing the sequence
+     * @param index the index of the sequence
+     * @param end   the end of the sequence
+     * @return  the spliterator
+     * @throws IllegalArgumentException if a top-level item's prefix is malformed
+     */
+    public Spliterator<RLPItem> spliterator(byte[] buffer, int index, int end) {
+        Objects.checkFromToIndex(index, end, buffer.length);
+        return RLPSequenceSpliterator.of(this, buffer, index, end);
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the sequence of RLP items between the buffer's position and its limit
+     * which, if made parallel, splits exactly on item boundaries. The buffer's position is not modified.
+     *
+     * @param buffer    the buffer containing the sequence
+     * @return  a splittable stream of zero-copy views of the items
+     * @see #stream(byte[], int, int)
+     */
+    public Stream<RLPBufferItem> stream(ByteBuffer buffer) {
+        final int index = buffer.position();
+        final int end = buffer.limit();
+        return StreamSupport.stream(
+                () -> RLPSequenceSpliterator.of(this, buffer, index, end),
+                RLPSequenceSpliterator.CHARACTERISTICS,
+                false
+        );
+    }
+
     public Iterator<RLPItem> listIterator(byte[] buffer) {
         return listIterator(buffer, 0);
     }
@@ -122,6 +179,57 @@ public final class RLPDecoder {
         return wrapList(buffer, index).iterator(this);
     }
 
+    public RLPCursor cursor(byte[] buffer) {
+        return cursor(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Returns a reusable cursor positioned before the first item of the sequence at {@code index}. Items are validated
+     * according to this decoder's leniency.
+     *
+     * @param buffer    the array containing the sequence
+     * @param index the index of the sequence
+     * @param end   the end of the sequence
+     * @return  the cursor
+     * @see RLPCursor#reset(byte[], int, int)
+     */
+    public RLPCursor cursor(byte[] buffer, int index, int end) {
+        return new RLPCursor(lenient).reset(buffer, index, end);
+    }
+
+    /**
+     * Returns a reusable validator which applies this decoder's leniency and the given limits.
+     *
+     * @param maxDepth  the maximum nesting depth of lists. A top-level list has depth one
+     * @param maxItems  the maximum total number of items, at all depths
+     * @param maxStringLength   the maximum data length of a string item, in bytes
+     * @return  the validator
+     */
+    public RLPValidator validator(int maxDepth, int maxItems, int maxStringLength) {
+        return new RLPValidator(lenient, maxDepth, maxItems, maxStringLength);
+    }
+
+    /**
+     * Checks that the given range holds a well-formed sequence of RLP items, reading only prefixes and allocating
+     * nothing on success after the calling thread's first use. Equivalent to, but much faster than, wrapping and
+     * iterating every item at every depth.
+     *
+     * @param buffer    the array containing the sequence
+     * @param off   the index of the sequence
+     * @param len   the length of the sequence
+     * @return  the total number of items, at all depths
+     * @throws IllegalArgumentException if an item is malformed
+     * @see #validator(int, int, int)
+     */
+    public int validate(byte[] buffer, int off, int len) {
+        return unlimited.get().validate(buffer, off, len);
+    }
+
+    /** @see #validate(byte[], int, int) */
+    public int validate(ByteBuffer buffer, int off, int len) {
+        return unlimited.get().validate(buffer, off, len);
+    }
+
     public <T extends RLPItem> T wrapBits(long bits) {
         return wrap(RLPEncoder.bitsToBytes(bits), 0);
     }
@@ -160,61 +268,174 @@ public final class RLPDecoder {
 
     @SuppressWarnings("unchecked")
     <T extends RLPItem> T wrap(byte[] buffer, int index, int containerEnd) {
-        byte lead = buffer[index];
-        DataType type = DataType.type(lead);
-        switch (type.ordinal()) {
-        case ORDINAL_SINGLE_BYTE: return (T) newSingleByte(buffer, index, containerEnd);
-        case ORDINAL_STRING_SHORT: return (T) newStringShort(buffer, index, lead, containerEnd, lenient);
-        case ORDINAL_LIST_SHORT: return (T) newListShort(buffer, index, lead, containerEnd);
-        case ORDINAL_STRING_LONG:
-        case ORDINAL_LIST_LONG: return newLongItem(lead, type.offset, type.isString, buffer, index, containerEnd, lenient);
-        default: throw new AssertionError();
-        }
+        final long prefix = decodePrefix(buffer, index, containerEnd, lenient);
+        final int dataIndex = dataIndex(prefix);
+        final int dataLength = dataLength(prefix);
+        return (T) (DataType.type(buffer[index]).isString
+                ? new RLPString(buffer, index, dataIndex, dataLength, dataIndex + dataLength)
+                : new RLPList(buffer, index, dataIndex, dataLength, dataIndex + dataLength)
+        );
     }
 
-    private static RLPString newSingleByte(byte[] buffer, int index, int containerEnd) {
-        return new RLPString(buffer, index, index, 1, requireInBounds(index + 1L, containerEnd, buffer, index));
+    public RLPBufferItem wrap(ByteBuffer buffer) {
+        return wrap(buffer, buffer.position());
     }
 
-    private static RLPString newStringShort(byte[] buffer, int index, byte lead, int containerEnd, boolean lenient) {
-        final int dataIndex = index + 1;
-        final int dataLength = lead - STRING_SHORT_OFFSET;
-        final int endIndex = requireInBounds((long) dataIndex + dataLength, containerEnd, buffer, index);
-        if (!lenient && dataLength == 1 && DataType.isSingleByte(buffer[dataIndex])) {
-            throw new IllegalArgumentException("invalid rlp for single byte @ " + index);
+    /**
+     * Wraps the RLP item at absolute index {@code index} of the given buffer, which may be direct or memory-mapped, without
+     * copying it onto the heap. The buffer's limit is treated as the end of the data. The buffer's position is not used.
+     *
+     * @param buffer    the buffer containing the item
+     * @param index the index of the item
+     * @return  a zero-copy view of the item
+     * @throws IllegalArgumentException if the item is malformed
+     */
+    public RLPBufferItem wrap(ByteBuffer buffer, int index) {
+        return wrap(buffer, index, buffer.limit());
+    }
+
+    RLPBufferItem wrap(ByteBuffer buffer, int index, int containerEnd) {
+        final long prefix = decodePrefix(buffer, index, containerEnd, lenient);
+        final int dataIndex = dataIndex(prefix);
+        final int dataLength = dataLength(prefix);
+        return new RLPBufferItem(buffer, index, dataIndex, dataLength, dataIndex + dataLength);
+    }
+
+    static int dataIndex(long prefix) {
+        return (int) (prefix >>> Integer.SIZE);
+    }
+
+    static int dataLength(long prefix) {
+        return (int) prefix;
+    }
+
+    private static long prefix(int dataIndex, int dataLength) {
+        return ((long) dataIndex << Integer.SIZE) | dataLength;
+    }
+
+    /**
+     * Validates the prefix of the item at {@code index} and locates the item's data, allocating nothing unless the item
+     * is malformed. Decode with {@link #dataIndex(long)} and {@link #dataLength(long)}.
+     *
+     * @return  the data index and data length of the item, packed into a long
+     */
+    static long decodePrefix(byte[] buffer, int index, int containerEnd, boolean lenient) {
+        final byte lead = buffer[index];
+        final DataType type = DataType.type(lead);
+        switch (type.ordinal()) {
+        case ORDINAL_SINGLE_BYTE:
+            requireInBounds(index + 1L, containerEnd, buffer, index);
+            return prefix(index, 1);
+        case ORDINAL_STRING_SHORT: {
+            final int dataIndex = index + 1;
+            final int dataLength = lead - STRING_SHORT_OFFSET;
+            requireInBounds((long) dataIndex + dataLength, containerEnd, buffer, index);
+            if (!lenient && dataLength == 1 && DataType.isSingleByte(buffer[dataIndex])) {
+                throw new IllegalArgumentException("invalid rlp for single byte @ " + index);
+            }
+            return prefix(dataIndex, dataLength);
+        }
+        case ORDINAL_LIST_SHORT: {
+            final int dataIndex = index + 1;
+            final int dataLength = lead - LIST_SHORT_OFFSET;
+            requireInBounds((long) dataIndex + dataLength, containerEnd, buffer, index);
+            return prefix(dataIndex, dataLength);
+        }
+        case ORDINAL_STRING_LONG:
+        case ORDINAL_LIST_LONG: {
+            final int diff = lead - type.offset;
+            final int lengthIndex = index + 1;
+            final int dataIndex = requireInBounds((long) lengthIndex + diff, containerEnd, buffer, index);
+            final long dataLength = Integers.getLong(buffer, lengthIndex, diff, lenient);
+            return prefix(dataIndex, checkLongDataLength(dataIndex, dataLength, containerEnd, buffer.length, index));
+        }
+        default: throw new AssertionError();
         }
-        return new RLPString(buffer, index, dataIndex, dataLength, endIndex);
     }
 
-    private static RLPList newListShort(byte[] buffer, int index, byte lead, int containerEnd) {
-        final int dataIndex = index + 1;
-        final int dataLength = lead - LIST_SHORT_OFFSET;
-        return new RLPList(buffer, index, dataIndex, dataLength, requireInBounds((long) dataIndex + dataLength, containerEnd, buffer, index));
+    /** @see #decodePrefix(byte[], int, int, boolean) */
+    static long decodePrefix(ByteBuffer buffer, int index, int containerEnd, boolean lenient) {
+        final byte lead = buffer.get(index);
+        final DataType type = DataType.type(lead);
+        switch (type.ordinal()) {
+        case ORDINAL_SINGLE_BYTE:
+            requireInBounds(index + 1L, containerEnd, buffer.limit(), index);
+            return prefix(index, 1);
+        case ORDINAL_STRING_SHORT: {
+            final int dataIndex = index + 1;
+            final int dataLength = lead - STRING_SHORT_OFFSET;
+            requireInBounds((long) dataIndex + dataLength, containerEnd, buffer.limit(), index);
+            if (!lenient && dataLength == 1 && DataType.isSingleByte(buffer.get(dataIndex))) {
+                throw new IllegalArgumentException("invalid rlp for single byte @ " + index);
+            }
+            return prefix(dataIndex, dataLength);
+        }
+        case ORDINAL_LIST_SHORT: {
+            final int dataIndex = index + 1;
+            final int dataLength = lead - LIST_SHORT_OFFSET;
+            requireInBounds((long) dataIndex + dataLength, containerEnd, buffer.limit(), index);
+            return prefix(dataIndex, dataLength);
+        }
+        case ORDINAL_STRING_LONG:
+        case ORDINAL_LIST_LONG: {
+            final int diff = lead - type.offset;
+            final int lengthIndex = index + 1;
+            final int dataIndex = requireInBounds((long) lengthIndex + diff, containerEnd, buffer.limit(), index);
+            final long dataLength = Integers.getLong(buffer, lengthIndex, diff, lenient);
+            return prefix(dataIndex, checkLongDataLength(dataIndex, dataLength, containerEnd, buffer.limit(), index));
+        }
+        default: throw new AssertionError();
+        }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T extends RLPItem> T newLongItem(byte lead, byte offset, boolean isString, byte[] buffer, int index, int containerEnd, boolean lenient) {
-        final int diff = lead - offset;
-        final int lengthIndex = index + 1;
-        final int dataIndex = requireInBounds((long) lengthIndex + diff, containerEnd, buffer, index);
-        final long dataLength = Integers.getLong(buffer, lengthIndex, diff, lenient);
+    private static int checkLongDataLength(int dataIndex, long dataLength, int containerEnd, int bufferEnd, int index) {
         if (dataLength < MIN_LONG_DATA_LEN) {
             throw new IllegalArgumentException("long element data length must be " + MIN_LONG_DATA_LEN
                     + " or greater; found: " + dataLength + " for element @ " + index);
         }
-        final int dataLen = requireInBounds(dataLength, containerEnd, buffer, index);
-        final int endIndex = requireInBounds(dataIndex + dataLength, containerEnd, buffer, index);
-        return (T) (isString
-                ? new RLPString(buffer, index, dataIndex, dataLen, endIndex)
-                : new RLPList(buffer, index, dataIndex, dataLen, endIndex)
-        );
+        final int dataLen = requireInBounds(dataLength, containerEnd, bufferEnd, index);
+        requireInBounds(dataIndex + dataLength, containerEnd, bufferEnd, index);
+        return dataLen;
+    }
+
+    /**
+     * Returns an iterator over the sequence of RLP items between the buffer's position and its limit. The buffer's
+     * position is not modified.
+     *
+     * @param buffer    the buffer containing the sequence
+     * @return  an iterator over zero-copy views of the items in the sequence
+     */
+    public Iterator<RLPBufferItem> sequenceIterator(final ByteBuffer buffer) {
+        return new Iterator<RLPBufferItem>() {
+
+            int idx = buffer.position();
+
+            @Override
+            public boolean hasNext() {
+                return idx < buffer.limit();
+            }
+
+            @Override
+            public RLPBufferItem next() {
+                if (hasNext()) {
+                    RLPBufferItem next = wrap(buffer, idx);
+                    idx = next.endIndex;
+                    return next;
+                }
+                throw new NoSuchElementException();
+            }
+        };
     }
 
     private static int requireInBounds(long val, int containerEnd, byte[] buffer, int index) {
+        return requireInBounds(val, containerEnd, buffer.length, index);
+    }
+
+    private static int requireInBounds(long val, int containerEnd, int bufferEnd, int index) {
         if (val > containerEnd) {
             String msg = "element @ index " + index + " exceeds its container: " + val + " > " + containerEnd;
-            throw buffer.length == containerEnd ? new ShortInputException(msg) : new IllegalArgumentException(msg);
+            throw bufferEnd == containerEnd ? new ShortInputException(msg) : new IllegalArgumentException(msg);
         }
         return (int) val;
     }
-}
\ No newline at end of file
+}
@@ -75,23 +75,51 @@ public final class RLPEncoder {
         return dataLen < MIN_LONG_DATA_LEN;
     }
 
-    private static int sumEncodedLen(Iterable<?> rawItems) {
+    /**
+     * Records the data length of each list, in the order the lists will be encoded, so that every node of the object
+     * tree is measured exactly once regardless of nesting depth.
+     */
+    private static final class ListLengths {
+
+        private int[] lengths;
+        private int count;
+        private int cursor;
+
+        int reserve() {
+            if (lengths == null) {
+                lengths = new int[8];
+            } else if (count == lengths.length) {
+                lengths = Arrays.copyOf(lengths, count << 1);
+            }
+            return count++;
+        }
+
+        void set(int slot, int dataLen) {
+            lengths[slot] = dataLen;
+        }
+
+        int next() {
+            return lengths[cursor++];
+        }
+    }
+
+    private static int sumEncodedLen(Iterable<?> rawItems, ListLengths listLengths) {
         long sum = 0;
         for (Object raw : rawItems) {
-            sum += encodedLen(raw);
+            sum += encodedLen(raw, listLengths);
         }
         return requireNoOverflow(sum);
     }
 
-    private static int encodedLen(Object raw) {
+    private static int encodedLen(Object raw, ListLengths listLengths) {
         if (raw instanceof byte[]) {
             return stringEncodedLen((byte[]) raw);
         }
         if (raw instanceof Iterable<?>) {
-            return listEncodedLen((Iterable<?>) raw);
+            return listEncodedLen((Iterable<?>) raw, listLengths);
         }
         if (raw instanceof Object[]) {
-            return listEncodedLen(Arrays.asList((Object[]) raw));
+            return listEncodedLen(Arrays.asList((Object[]) raw), listLengths);
         }
         throw new IllegalArgumentException("unsupported object type. expected instanceof byte[], Iterable, or Object[]");
     }
@@ -100,27 +128,34 @@ public final class RLPEncoder {
         return itemLen(byteString.length == 1 && DataType.isSingleByte(byteString[0]) ? 0 : byteString.length);
     }
 
-    private static int listEncodedLen(Iterable<?> items) {
-        return itemLen(sumEncodedLen(items));
+    private static int listEncodedLen(Iterable<?> items, ListLengths listLengths) {
+        final int slot = listLengths.reserve(); // pre-order, same as the encoding order
+        final int dataLen = sumEncodedLen(items, listLengths);
+        listLengths.set(slot, dataLen);
+        return itemLen(dataLen);
     }
 
-    private static void encodeItem(Object raw, ByteBuffer bb) {
+    private static void encodeItem(Object raw, ByteBuffer bb, ListLengths listLengths) {
         if (raw instanceof byte[]) {
             putString((byte[]) raw, bb);
         } else if (raw instanceof Iterable<?>) {
-            Iterable<?> elements = (Iterable<?>) raw;
-            encodeList(sumEncodedLen(elements), elements, bb);
+            encodeList(listLengths.next(), (Iterable<?>) raw, bb, listLengths);
         } else if (raw instanceof Object[]) {
-            Iterable<?> elements = Arrays.asList((Object[]) raw);
-            encodeList(sumEncodedLen(elements), elements, bb);
+            encodeList(listLengths.next(), Arrays.asList((Object[]) raw), bb, listLengths);
         } else {
             throw new IllegalArgumentException("unsupported object type. expected instanceof byte[], Iterable, or Object[]");
         }
     }
 
-    private static void encodeList(int dataLen, Iterable<?> elements, ByteBuffer bb) {
+    private static void encodeList(int dataLen, Iterable<?> elements, ByteBuffer bb, ListLengths listLengths) {
         insertListPrefix(dataLen, bb);
-        putSequence(elements, bb);
+        encodeSequence(elements, bb, listLengths);
+    }
+
+    private static void encodeSequence(Iterable<?> objects, ByteBuffer bb, ListLengths listLengths) {
+        for (Object raw : objects) {
+            encodeItem(raw, bb, listLengths);
+        }
     }
 // ---------------------------------------------------------------------------------------------------------------------
     private static final byte[] ZERO_RLP = new byte[1];
@@ -190,9 +225,10 @@ public final class RLPEncoder {
      * @return the encoded sequence
      */
     public static byte[] sequence(Iterable<?> objects) {
-        byte[] dest = new byte[sumEncodedLen(objects)];
-        putSequence(objects, dest, 0);
-        return dest;
+        final ListLengths listLengths = new ListLengths();
+        ByteBuffer bb = ByteBuffer.allocate(sumEncodedLen(objects, listLengths));
+        encodeSequence(objects, bb, listLengths);
+        return bb.array();
     }
 
     /**
@@ -218,9 +254,9 @@ public final class RLPEncoder {
      * @param dest    the destination for the sequence of RLP encodings
      */
     public static void putSequence(Iterable<?> objects, ByteBuffer dest) {
-        for (Object raw : objects) {
-            encodeItem(raw, dest);
-        }
+        final ListLengths listLengths = new ListLengths();
+        sumEncodedLen(objects, listLengths);
+        encodeSequence(objects, dest, listLengths);
     }
 //----------------------------------------------------------------------------------------------------------------------
     /**
@@ -240,9 +276,10 @@ public final class RLPEncoder {
      * @return the encoded RLP list item
      */
     public static byte[] list(Iterable<?> elements) {
-        int dataLen = sumEncodedLen(elements);
+        final ListLengths listLengths = new ListLengths();
+        final int dataLen = sumEncodedLen(elements, listLengths);
         ByteBuffer bb = ByteBuffer.allocate(itemLen(dataLen));
-        encodeList(dataLen, elements, bb);
+        encodeList(dataLen, elements, bb, listLengths);
         return bb.array();
     }
 
@@ -269,6 +306,7 @@ public final class RLPEncoder {
      * @param dest     the destination for the encoded RLP list
      */
     public static void putList(Iterable<?> elements, ByteBuffer dest) {
-        encodeList(sumEncodedLen(elements), elements, dest);
+        final ListLengths listLengths = new ListLengths();
+        encodeList(sumEncodedLen(elements, listLengths), elements, dest, listLengths);
     }
 }
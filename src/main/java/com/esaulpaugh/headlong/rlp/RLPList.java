@@ -23,10 +23,15 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.LongConsumer;
 
 /** Extends {@link RLPItem}. Implements {@link Iterable}. Created by Evo on 1/19/2017. */
 public final class RLPList extends RLPItem implements Iterable<RLPItem> {
 
+    /* start indices of the elements, built on demand */
+    private volatile int[] elementIndices;
+
     RLPList(byte[] buffer, int index, int dataIndex, int dataLength, int endIndex) {
         super(buffer, index, dataIndex, dataLength, endIndex);
     }
@@ -108,6 +113,176 @@ public final class RLPList extends RLPItem implements Iterable<RLPItem> {
         }
     }
 
+    /**
+     * Returns the number of elements in this list. Builds the element index, if necessary, with {@link RLPDecoder#RLP_STRICT}.
+     *
+     * @return  the number of elements
+     * @see #buildIndex(RLPDecoder)
+     */
+    public int size() {
+        return elementIndices(RLPDecoder.RLP_STRICT).length;
+    }
+
+    public RLPItem get(int i) {
+        return get(RLPDecoder.RLP_STRICT, i);
+    }
+
+    /**
+     * Returns the element at position {@code i} in constant time once this list's element index has been built. The
+     * index is built by the first call to this method, {@link #size()}, or {@link #buildIndex(RLPDecoder)} and is
+     * retained for the lifetime of this object.
+     *
+     * @param decoder   the decoder with which to validate the element
+     * @param i the position of the element
+     * @return  the element
+     * @throws IndexOutOfBoundsException    if {@code i} is negative or not less than {@link #size()}
+     */
+    public RLPItem get(RLPDecoder decoder, int i) {
+        final int[] indices = elementIndices(decoder);
+        return decoder.wrap(buffer, indices[Objects.checkIndex(i, indices.length)], endIndex);
+    }
+
+    /**
+     * Eagerly validates every element of this list and builds the index used by {@link #get(RLPDecoder, int)}. Has no
+     * effect if the index has already been built.
+     *
+     * @param decoder   the decoder with which to validate the elements
+     * @return  the number of elements
+     */
+    public int buildIndex(RLPDecoder decoder) {
+        return elementIndices(decoder).length;
+    }
+
+    private int[] elementIndices(RLPDecoder decoder) {
+        int[] indices = elementIndices;
+        if (indices == null) {
+            indices = new int[Math.min(dataLength, 16)];
+            int n = 0;
+            for (int idx = dataIndex; idx < endIndex; idx = nextElementIndex(decoder, idx)) {
+                if (n == indices.length) {
+                    indices = Arrays.copyOf(indices, Math.min(dataLength, n << 1));
+                }
+                indices[n++] = idx;
+            }
+            elementIndices = indices = n == indices.length ? indices : Arrays.copyOf(indices, n);
+        }
+        return indices;
+    }
+
+    private int nextElementIndex(RLPDecoder decoder, int idx) {
+        final long prefix = RLPDecoder.decodePrefix(buffer, idx, endIndex, decoder.lenient);
+        return RLPDecoder.dataIndex(prefix) + RLPDecoder.dataLength(prefix);
+    }
+
+    public long[] asLongArray() {
+        return asLongArray(RLPDecoder.RLP_STRICT);
+    }
+
+    /**
+     * Interprets every element of this list as an integer, without wrapping any element as an {@link RLPItem}.
+     *
+     * @param decoder   the decoder whose leniency applies to the elements' prefixes and leading zeroes
+     * @return  the integers, in order
+     * @throws IllegalArgumentException if any element is malformed, is a list, or is not interpretable as a long
+     * @see RLPItem#asLong(boolean)
+     */
+    public long[] asLongArray(RLPDecoder decoder) {
+        long[] arr = new long[initialCapacity()];
+        int n = 0;
+        for (int idx = dataIndex; idx < endIndex; n++) {
+            final long prefix = stringPrefix(decoder, idx);
+            final int di = RLPDecoder.dataIndex(prefix);
+            final int dl = RLPDecoder.dataLength(prefix);
+            if (n == arr.length) {
+                arr = Arrays.copyOf(arr, Math.min(dataLength, n << 1));
+            }
+            arr[n] = Integers.getLong(buffer, di, dl, decoder.lenient);
+            idx = di + dl;
+        }
+        return n == arr.length ? arr : Arrays.copyOf(arr, n);
+    }
+
+    public int[] asIntArray() {
+        return asIntArray(RLPDecoder.RLP_STRICT);
+    }
+
+    /** @see #asLongArray(RLPDecoder) */
+    public int[] asIntArray(RLPDecoder decoder) {
+        int[] arr = new int[initialCapacity()];
+        int n = 0;
+        for (int idx = dataIndex; idx < endIndex; n++) {
+            final long prefix = stringPrefix(decoder, idx);
+            final int di = RLPDecoder.dataIndex(prefix);
+            final int dl = RLPDecoder.dataLength(prefix);
+            if (n == arr.length) {
+                arr = Arrays.copyOf(arr, Math.min(dataLength, n << 1));
+            }
+            arr[n] = Integers.getInt(buffer, di, dl, decoder.lenient);
+            idx = di + dl;
+        }
+        return n == arr.length ? arr : Arrays.copyOf(arr, n);
+    }
+
+    public byte[][] asBytesArray() {
+        return asBytesArray(RLPDecoder.RLP_STRICT);
+    }
+
+    /**
+     * Copies the data of every element of this list, without wrapping any element as an {@link RLPItem}.
+     *
+     * @param decoder   the decoder with which to validate the elements
+     * @return  the elements' data, in order
+     * @throws IllegalArgumentException if any element is malformed or is a list
+     */
+    public byte[][] asBytesArray(RLPDecoder decoder) {
+        byte[][] arr = new byte[initialCapacity()][];
+        int n = 0;
+        for (int idx = dataIndex; idx < endIndex; n++) {
+            final long prefix = stringPrefix(decoder, idx);
+            final int di = RLPDecoder.dataIndex(prefix);
+            final int dl = RLPDecoder.dataLength(prefix);
+            if (n == arr.length) {
+                arr = Arrays.copyOf(arr, Math.min(dataLength, n << 1));
+            }
+            arr[n] = Arrays.copyOfRange(buffer, di, idx = di + dl);
+        }
+        return n == arr.length ? arr : Arrays.copyOf(arr, n);
+    }
+
+    public void forEachLong(LongConsumer action) {
+        forEachLong(RLPDecoder.RLP_STRICT, action);
+    }
+
+    /**
+     * Passes each element of this list, interpreted as an integer, to {@code action}. Allocates nothing.
+     *
+     * @param decoder   the decoder whose leniency applies to the elements' prefixes and leading zeroes
+     * @param action    the consumer of the integers
+     * @throws IllegalArgumentException if any element is malformed, is a list, or is not interpretable as a long
+     */
+    public void forEachLong(RLPDecoder decoder, LongConsumer action) {
+        for (int idx = dataIndex; idx < endIndex; ) {
+            final long prefix = stringPrefix(decoder, idx);
+            final int di = RLPDecoder.dataIndex(prefix);
+            final int dl = RLPDecoder.dataLength(prefix);
+            action.accept(Integers.getLong(buffer, di, dl, decoder.lenient));
+            idx = di + dl;
+        }
+    }
+
+    private int initialCapacity() {
+        final int[] indices = elementIndices;
+        return indices != null ? indices.length : Math.min(dataLength, 16);
+    }
+
+    private long stringPrefix(RLPDecoder decoder, int idx) {
+        final long prefix = RLPDecoder.decodePrefix(buffer, idx, endIndex, decoder.lenient);
+        if (!DataType.type(buffer[idx]).isString) {
+            throw new IllegalArgumentException("expected string element @ " + idx);
+        }
+        return prefix;
+    }
+
     public Iterator<RLPItem> iterator(final RLPDecoder decoder) {
         return new Iterator<RLPItem>() {
 
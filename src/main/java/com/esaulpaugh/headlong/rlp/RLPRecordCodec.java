@@ -0,0 +1,467 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes and decodes instances of a {@link java.lang.Record} class as an RLP list whose elements are the record's
+ * components in declaration order. Component accessors and the canonical constructor are bound once, as
+ * {@link MethodHandle}s, when the codec is created; encoding then writes straight to an {@link RLPWriter} and decoding
+ * reads straight from an {@link RLPCursor}, with no intermediate {@code Object[]} tree.
+ * <p>
+ * Supported component types and their encodings:
+ * <ul>
+ *     <li>{@code long}, {@code int}: minimal big-endian two's complement, as by {@link RLPWriter#writeLong(long)}. An
+ *     {@code int} is treated as unsigned so that it occupies at most four bytes</li>
+ *     <li>{@code boolean}: {@code 0x01} or the empty string</li>
+ *     <li>{@link BigInteger}: minimal unsigned big-endian; must be non-negative</li>
+ *     <li>{@code byte[]}: the bytes</li>
+ *     <li>{@link String}: the UTF-8 bytes</li>
+ *     <li>a record of a supported class: a nested list</li>
+ *     <li>{@link List} of a supported type other than a primitive: a nested list</li>
+ * </ul>
+ * Null components are not supported. Instances are immutable and thread-safe.
+ *
+ * @param <T>   the record class
+ */
+public final class RLPRecordCodec<T extends java.lang.Record> {
+
+    private static final ClassValue<RLPRecordCodec<?>> CODECS = new ClassValue<RLPRecordCodec<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected RLPRecordCodec<?> computeValue(Class<?> type) {
+            return new RLPRecordCodec(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final Field[] fields;
+    private final MethodHandle constructor;
+
+    private RLPRecordCodec(Class<T> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("not a record class: " + type.getName());
+        }
+        final RecordComponent[] components = type.getRecordComponents();
+        final Class<?>[] paramTypes = new Class<?>[components.length];
+        this.fields = new Field[components.length];
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (int i = 0; i < components.length; i++) {
+                final RecordComponent rc = components[i];
+                final Method accessor = rc.getAccessor();
+                accessor.setAccessible(true);
+                final MethodHandle getter = lookup.unreflect(accessor);
+                paramTypes[i] = rc.getType();
+                fields[i] = field(rc.getName(), rc.getType(), rc.getGenericType(), getter);
+            }
+            final Constructor<T> canonical = type.getDeclaredConstructor(paramTypes);
+            canonical.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, components.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("unable to bind " + type.getName() + ": " + e.getMessage(), e);
+        }
+        this.type = type;
+    }
+
+    /**
+     * Returns the codec for the given record class, creating and caching it on first use.
+     *
+     * @param type  the record class
+     * @return  the codec
+     * @param <T>   the record type
+     * @throws IllegalArgumentException if {@code type} is not a record class or has a component of an unsupported type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends java.lang.Record> RLPRecordCodec<T> of(Class<T> type) {
+        return (RLPRecordCodec<T>) CODECS.get(type);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public byte[] encode(T value) {
+        final RLPWriter writer = new RLPWriter();
+        encode(value, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Writes the encoding of {@code value}, a single list item, to {@code writer}.
+     *
+     * @param value the record
+     * @param writer    the destination
+     */
+    public void encode(T value, RLPWriter writer) {
+        writer.beginList();
+        for (Field f : fields) {
+            f.write(value, writer);
+        }
+        writer.endList();
+    }
+
+    public T decode(byte[] rlp) {
+        return decode(RLPDecoder.RLP_STRICT, rlp, 0);
+    }
+
+    /**
+     * Decodes the list item at {@code index}.
+     *
+     * @param decoder   the decoder whose leniency applies to prefixes and integers
+     * @param rlp   the array containing the item
+     * @param index the index of the item
+     * @return  the record
+     * @throws IllegalArgumentException if the item is malformed or does not match the record's structure
+     */
+    public T decode(RLPDecoder decoder, byte[] rlp, int index) {
+        final RLPCursor cursor = decoder.cursor(rlp, index, rlp.length);
+        cursor.next();
+        return decode(cursor);
+    }
+
+    public T decode(RLPItem item) {
+        final RLPCursor cursor = new RLPCursor(false).reset(item.buffer, item.index, item.endIndex);
+        cursor.next();
+        return decode(cursor);
+    }
+
+    /**
+     * Decodes the current item of {@code cursor}, which must be a list, leaving it as the current item.
+     *
+     * @param cursor    the cursor positioned on the item
+     * @return  the record
+     * @throws IllegalArgumentException if the item does not match the record's structure
+     */
+    public T decode(RLPCursor cursor) {
+        requireList(cursor, type.getSimpleName());
+        cursor.enter();
+        final Object[] args = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            if (!cursor.next()) {
+                throw new IllegalArgumentException(type.getSimpleName() + ": missing element for " + fields[i].name);
+            }
+            args[i] = fields[i].read(cursor);
+        }
+        if (cursor.next()) {
+            throw new IllegalArgumentException(type.getSimpleName() + ": trailing element @ " + cursor.index());
+        }
+        cursor.exit();
+        try {
+            return type.cast(constructor.invokeExact(args));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static void requireList(RLPCursor cursor, String name) {
+        if (!cursor.hasItem() || !cursor.isList()) {
+            throw new IllegalArgumentException(name + ": expected list");
+        }
+    }
+
+    private static void requireString(RLPCursor cursor, String name) {
+        if (cursor.isList()) {
+            throw new IllegalArgumentException(name + ": expected string @ " + cursor.index());
+        }
+    }
+
+    private static Field field(String name, Class<?> c, Type generic, MethodHandle getter) {
+        if (c == long.class) {
+            return new LongField(name, getter.asType(MethodType.methodType(long.class, Object.class)));
+        }
+        if (c == int.class) {
+            return new IntField(name, getter.asType(MethodType.methodType(int.class, Object.class)));
+        }
+        if (c == boolean.class) {
+            return new BooleanField(name, getter.asType(MethodType.methodType(boolean.class, Object.class)));
+        }
+        return new ObjectField(name, getter.asType(MethodType.methodType(Object.class, Object.class)), kind(name, c, generic));
+    }
+
+    private static Kind kind(String name, Class<?> c, Type generic) {
+        if (c == byte[].class) return BYTES;
+        if (c == String.class) return STRING;
+        if (c == BigInteger.class) return BIG_INTEGER;
+        if (c.isRecord()) return new RecordKind(c);
+        if (c == List.class && generic instanceof ParameterizedType) {
+            final Type e = ((ParameterizedType) generic).getActualTypeArguments()[0];
+            final Class<?> elementClass = e instanceof ParameterizedType
+                    ? (Class<?>) ((ParameterizedType) e).getRawType()
+                    : e instanceof Class<?> ? (Class<?>) e : null;
+            if (elementClass != null && !elementClass.isPrimitive()) {
+                return new ListKind(kind(name, elementClass, e));
+            }
+        }
+        throw new IllegalArgumentException("unsupported type for component " + name + ": " + generic.getTypeName());
+    }
+
+    private abstract static class Field {
+
+        final String name;
+
+        Field(String name) {
+            this.name = name;
+        }
+
+        abstract void write(Object record, RLPWriter writer);
+
+        abstract Object read(RLPCursor cursor);
+
+        static RuntimeException rethrow(Throwable t) {
+            if (t instanceof RuntimeException) return (RuntimeException) t;
+            if (t instanceof Error) throw (Error) t;
+            return new IllegalStateException(t);
+        }
+    }
+
+    private static final class LongField extends Field {
+
+        private final MethodHandle getter;
+
+        LongField(String name, MethodHandle getter) {
+            super(name);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(Object record, RLPWriter writer) {
+            final long val;
+            try {
+                val = (long) getter.invokeExact(record);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.writeLong(val);
+        }
+
+        @Override
+        Object read(RLPCursor cursor) {
+            requireString(cursor, name);
+            return cursor.asLong(cursor.lenient());
+        }
+    }
+
+    private static final class IntField extends Field {
+
+        private final MethodHandle getter;
+
+        IntField(String name, MethodHandle getter) {
+            super(name);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(Object record, RLPWriter writer) {
+            final int val;
+            try {
+                val = (int) getter.invokeExact(record);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.writeLong(Integer.toUnsignedLong(val));
+        }
+
+        @Override
+        Object read(RLPCursor cursor) {
+            requireString(cursor, name);
+            return cursor.asInt(cursor.lenient());
+        }
+    }
+
+    private static final class BooleanField extends Field {
+
+        private final MethodHandle getter;
+
+        BooleanField(String name, MethodHandle getter) {
+            super(name);
+            this.getter = getter;
+        }
+
+        @Override
+        void write(Object record, RLPWriter writer) {
+            final boolean val;
+            try {
+                val = (boolean) getter.invokeExact(record);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            writer.writeLong(val ? 1L : 0L);
+        }
+
+        @Override
+        Object read(RLPCursor cursor) {
+            requireString(cursor, name);
+            return cursor.dataLength() != 0 && cursor.buffer()[cursor.dataIndex()] != 0x00;
+        }
+    }
+
+    private static final class ObjectField extends Field {
+
+        private final MethodHandle getter;
+        private final Kind kind;
+
+        ObjectField(String name, MethodHandle getter, Kind kind) {
+            super(name);
+            this.getter = getter;
+            this.kind = kind;
+        }
+
+        @Override
+        void write(Object record, RLPWriter writer) {
+            final Object val;
+            try {
+                val = (Object) getter.invokeExact(record);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            if (val == null) {
+                throw new IllegalArgumentException("null component: " + name);
+            }
+            kind.write(val, writer);
+        }
+
+        @Override
+        Object read(RLPCursor cursor) {
+            return kind.read(cursor, name);
+        }
+    }
+
+    /* encodes non-primitive values */
+    private interface Kind {
+        void write(Object val, RLPWriter writer);
+
+        Object read(RLPCursor cursor, String name);
+    }
+
+    private static final Kind BYTES = new Kind() {
+        @Override
+        public void write(Object val, RLPWriter writer) {
+            writer.writeString((byte[]) val);
+        }
+
+        @Override
+        public Object read(RLPCursor cursor, String name) {
+            requireString(cursor, name);
+            final byte[] bytes = new byte[cursor.dataLength()];
+            cursor.copyData(bytes, 0);
+            return bytes;
+        }
+    };
+
+    private static final Kind STRING = new Kind() {
+        @Override
+        public void write(Object val, RLPWriter writer) {
+            writer.writeString(((String) val).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object read(RLPCursor cursor, String name) {
+            requireString(cursor, name);
+            return new String(cursor.buffer(), cursor.dataIndex(), cursor.dataLength(), StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final Kind BIG_INTEGER = new Kind() {
+        @Override
+        public void write(Object val, RLPWriter writer) {
+            writer.writeBigInt((BigInteger) val);
+        }
+
+        @Override
+        public Object read(RLPCursor cursor, String name) {
+            requireString(cursor, name);
+            return Integers.getBigInt(cursor.buffer(), cursor.dataIndex(), cursor.dataLength(), cursor.lenient());
+        }
+    };
+
+    private static final class RecordKind implements Kind {
+
+        private final Class<?> recordClass;
+        private RLPRecordCodec<java.lang.Record> codec; // resolved lazily to permit recursive types
+
+        RecordKind(Class<?> recordClass) {
+            this.recordClass = recordClass;
+        }
+
+        @SuppressWarnings("unchecked")
+        private RLPRecordCodec<java.lang.Record> codec() {
+            RLPRecordCodec<java.lang.Record> c = codec;
+            if (c == null) {
+                codec = c = (RLPRecordCodec<java.lang.Record>) CODECS.get(recordClass);
+            }
+            return c;
+        }
+
+        @Override
+        public void write(Object val, RLPWriter writer) {
+            codec().encode((java.lang.Record) val, writer);
+        }
+
+        @Override
+        public Object read(RLPCursor cursor, String name) {
+            return codec().decode(cursor);
+        }
+    }
+
+    private static final class ListKind implements Kind {
+
+        private final Kind elementKind;
+
+        ListKind(Kind elementKind) {
+            this.elementKind = elementKind;
+        }
+
+        @Override
+        public void write(Object val, RLPWriter writer) {
+            writer.beginList();
+            for (Object e : (List<?>) val) {
+                elementKind.write(e, writer);
+            }
+            writer.endList();
+        }
+
+        @Override
+        public Object read(RLPCursor cursor, String name) {
+            requireList(cursor, name);
+            cursor.enter();
+            final List<Object> list = new ArrayList<>();
+            while (cursor.next()) {
+                list.add(elementKind.read(cursor, name));
+            }
+            cursor.exit();
+            return List.copyOf(list);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToLongFunction;
+
+/**
+ * A {@link Spliterator} over consecutive top-level RLP items which splits on item boundaries. The boundaries are found
+ * up front by a scan which reads only the items' prefixes, so splits are exact and balanced by item count and the
+ * items themselves may be wrapped on any thread.
+ */
+final class RLPSequenceSpliterator<T> implements Spliterator<T> {
+
+    static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    private final int[] starts;
+    private final IntFunction<T> wrapper;
+    private int lo;
+    private final int hi;
+
+    private RLPSequenceSpliterator(int[] starts, IntFunction<T> wrapper, int lo, int hi) {
+        this.starts = starts;
+        this.wrapper = wrapper;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    static RLPSequenceSpliterator<RLPItem> of(RLPDecoder decoder, byte[] buffer, int index, int end) {
+        return scan(i -> RLPDecoder.decodePrefix(buffer, i, end, decoder.lenient), index, end, i -> decoder.wrap(buffer, i, end));
+    }
+
+    static RLPSequenceSpliterator<RLPBufferItem> of(RLPDecoder decoder, ByteBuffer buffer, int index, int end) {
+        return scan(i -> RLPDecoder.decodePrefix(buffer, i, end, decoder.lenient), index, end, i -> decoder.wrap(buffer, i, end));
+    }
+
+    private static <T> RLPSequenceSpliterator<T> scan(IntToLongFunction prefixDecoder, int index, int end, IntFunction<T> wrapper) {
+        int[] starts = new int[16];
+        int n = 0;
+        while (index < end) {
+            if (n == starts.length) {
+                starts = Arrays.copyOf(starts, n << 1);
+            }
+            starts[n++] = index;
+            final long prefix = prefixDecoder.applyAsLong(index);
+            index = RLPDecoder.dataIndex(prefix) + RLPDecoder.dataLength(prefix);
+        }
+        return new RLPSequenceSpliterator<>(starts, wrapper, 0, n);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (lo < hi) {
+            action.accept(wrapper.apply(starts[lo++]));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        final int end = hi;
+        for (int i = lo; i < end; i++) {
+            action.accept(wrapper.apply(starts[i]));
+        }
+        lo = end;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int mid = (lo + hi) >>> 1;
+        if (mid <= lo) {
+            return null;
+        }
+        final Spliterator<T> prefix = new RLPSequenceSpliterator<>(starts, wrapper, lo, mid);
+        lo = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return hi - lo;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+
+import static com.esaulpaugh.headlong.rlp.DataType.ORDINAL_LIST_SHORT;
+import static com.esaulpaugh.headlong.rlp.DataType.ORDINAL_SINGLE_BYTE;
+import static com.esaulpaugh.headlong.rlp.DataType.ORDINAL_STRING_SHORT;
+
+/**
+ * A non-blocking, push-based decoder for a stream of top-level RLP items arriving in arbitrarily-sized chunks, e.g. from
+ * a {@link java.nio.channels.ReadableByteChannel} in non-blocking mode. Each complete item is validated and passed to
+ * the sink as soon as its last byte is fed. Partial items are held in an internal buffer which is compacted in place
+ * and grows only as needed, up to the maximum item size. Not thread-safe.
+ *
+ * @see #processor(RLPDecoder, int)
+ */
+public final class RLPStreamDecoder {
+
+    private static final int MAX_PREFIX_LEN = 1 + Long.BYTES;
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private final RLPDecoder decoder;
+    private final int maxItemSize;
+    private final Consumer<? super RLPItem> sink;
+
+    private byte[] buffer;
+    private int start;
+    private int end;
+
+    /**
+     * @param decoder   the decoder with which to validate each item
+     * @param maxItemSize   the maximum permitted encoding length of an item, in bytes. Items declaring a greater length
+     *                      are rejected as soon as their prefix is received, before their data is buffered
+     * @param sink  the consumer of complete items
+     */
+    public RLPStreamDecoder(RLPDecoder decoder, int maxItemSize, Consumer<? super RLPItem> sink) {
+        if (maxItemSize <= 0) {
+            throw new IllegalArgumentException("maxItemSize must be positive");
+        }
+        this.decoder = Objects.requireNonNull(decoder);
+        this.maxItemSize = maxItemSize;
+        this.sink = Objects.requireNonNull(sink);
+        this.buffer = new byte[Math.max(MAX_PREFIX_LEN, Math.min(maxItemSize, DEFAULT_CAPACITY))];
+    }
+
+    /**
+     * Consumes all remaining bytes of {@code chunk}, passing each item completed thereby to the sink.
+     *
+     * @param chunk the next bytes of the stream
+     * @return  the number of items passed to the sink
+     * @throws IllegalArgumentException if an item is malformed or exceeds the maximum item size
+     */
+    public int feed(ByteBuffer chunk) {
+        int count = 0;
+        while (chunk.hasRemaining()) {
+            if (end == buffer.length) {
+                compact();
+            }
+            final int n = Math.min(chunk.remaining(), buffer.length - end);
+            chunk.get(buffer, end, n);
+            end += n;
+            count += drain();
+        }
+        return count;
+    }
+
+    /**
+     * @return  the number of bytes received which do not yet form a complete item
+     */
+    public int buffered() {
+        return end - start;
+    }
+
+    private int drain() {
+        int count = 0;
+        while (start < end) {
+            final long itemLen = itemLength();
+            if (itemLen < 0L) {
+                break; // prefix incomplete
+            }
+            if (itemLen > maxItemSize) {
+                throw new IllegalArgumentException("item exceeds max size: " + itemLen + " > " + maxItemSize);
+            }
+            final int len = (int) itemLen;
+            if (len > end - start) {
+                reserve(len);
+                break;
+            }
+            sink.accept(decoder.wrap(Arrays.copyOfRange(buffer, start, start + len)));
+            start += len;
+            count++;
+        }
+        if (start == end) {
+            start = end = 0;
+        }
+        return count;
+    }
+
+    /* returns the length of the item at start, or -1 if its prefix has not been fully received */
+    private long itemLength() {
+        final byte lead = buffer[start];
+        final DataType type = DataType.type(lead);
+        switch (type.ordinal()) {
+        case ORDINAL_SINGLE_BYTE: return 1L;
+        case ORDINAL_STRING_SHORT:
+        case ORDINAL_LIST_SHORT: return 1L + (lead - type.offset);
+        default:
+            final int lengthOfLength = lead - type.offset;
+            if (1 + lengthOfLength > end - start) {
+                return -1L;
+            }
+            final long dataLen = Integers.getLong(buffer, start + 1, lengthOfLength, true); // leading zeroes checked by wrap
+            return dataLen < 0L ? Long.MAX_VALUE : 1L + lengthOfLength + dataLen;
+        }
+    }
+
+    private void reserve(int itemLen) {
+        if (itemLen > buffer.length) {
+            final byte[] bigger = new byte[(int) Math.min(maxItemSize, Math.max(itemLen, (long) buffer.length << 1))];
+            System.arraycopy(buffer, start, bigger, 0, end - start);
+            buffer = bigger;
+            end -= start;
+            start = 0;
+        } else if (itemLen > buffer.length - start) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        System.arraycopy(buffer, start, buffer, 0, end - start);
+        end -= start;
+        start = 0;
+    }
+
+    /**
+     * Returns a {@link Flow.Processor} which decodes the {@link ByteBuffer} chunks it receives into top-level RLP items
+     * and publishes them to its subscribers. Chunks are requested from upstream one at a time, after the previous chunk
+     * has been decoded and its items submitted, so a slow subscriber throttles the source. If the upstream completes
+     * while an item is incomplete, subscribers receive an {@link IllegalArgumentException}.
+     *
+     * @param decoder   the decoder with which to validate each item
+     * @param maxItemSize   the maximum permitted encoding length of an item, in bytes
+     * @return  the processor
+     */
+    public static Flow.Processor<ByteBuffer, RLPItem> processor(RLPDecoder decoder, int maxItemSize) {
+        return new Processor(decoder, maxItemSize);
+    }
+
+    private static final class Processor extends SubmissionPublisher<RLPItem> implements Flow.Processor<ByteBuffer, RLPItem> {
+
+        private final RLPStreamDecoder streamDecoder;
+        private Flow.Subscription subscription;
+
+        Processor(RLPDecoder decoder, int maxItemSize) {
+            this.streamDecoder = new RLPStreamDecoder(decoder, maxItemSize, this::submit);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onNext(ByteBuffer chunk) {
+            try {
+                streamDecoder.feed(chunk);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                closeExceptionally(e);
+                return;
+            }
+            subscription.request(1L);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            final int buffered = streamDecoder.buffered();
+            if (buffered == 0) {
+                close();
+            } else {
+                closeExceptionally(new IllegalArgumentException("stream ended with incomplete item: " + buffered + " bytes"));
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Checks that a sequence of RLP items is well-formed without decoding it. Only prefixes are read, iteratively, with the
+ * same strict or lenient canonical checks as {@link RLPDecoder#wrap(byte[], int)}. Once its depth stack has grown to
+ * the deepest nesting encountered, a validator allocates nothing unless the input is rejected. Not thread-safe; reuse
+ * one instance per thread.
+ *
+ * @see RLPDecoder#validator(int, int, int)
+ */
+public final class RLPValidator {
+
+    private final boolean lenient;
+    private final int maxDepth;
+    private final int maxItems;
+    private final int maxStringLength;
+
+    private int[] containerEnds = new int[16];
+
+    RLPValidator(boolean lenient, int maxDepth, int maxItems, int maxStringLength) {
+        if (maxDepth < 0 || maxItems < 0 || maxStringLength < 0) {
+            throw new IllegalArgumentException("limits must be non-negative");
+        }
+        this.lenient = lenient;
+        this.maxDepth = maxDepth;
+        this.maxItems = maxItems;
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Validates the sequence of items occupying {@code len} bytes of {@code buffer} starting at {@code off}.
+     *
+     * @param buffer    the array containing the sequence
+     * @param off   the index of the sequence
+     * @param len   the length of the sequence
+     * @return  the total number of items, at all depths
+     * @throws IllegalArgumentException if an item is malformed or a limit is exceeded
+     */
+    public int validate(byte[] buffer, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buffer.length);
+        int end = off + len;
+        int idx = off;
+        int depth = 0;
+        int count = 0;
+        while (true) {
+            while (idx == end) {
+                if (depth == 0) {
+                    return count;
+                }
+                end = containerEnds[--depth];
+            }
+            final long prefix = RLPDecoder.decodePrefix(buffer, idx, end, lenient);
+            checkCount(++count);
+            final int dataIndex = RLPDecoder.dataIndex(prefix);
+            final int dataLength = RLPDecoder.dataLength(prefix);
+            if (DataType.type(buffer[idx]).isString) {
+                checkStringLength(dataLength, idx);
+                idx = dataIndex + dataLength;
+            } else {
+                push(depth++, end, idx);
+                end = dataIndex + dataLength;
+                idx = dataIndex;
+            }
+        }
+    }
+
+    /**
+     * Validates the sequence of items occupying {@code len} bytes of {@code buffer} starting at absolute index
+     * {@code off}. The buffer's position and limit are not modified.
+     *
+     * @param buffer    the buffer containing the sequence
+     * @param off   the index of the sequence
+     * @param len   the length of the sequence
+     * @return  the total number of items, at all depths
+     * @throws IllegalArgumentException if an item is malformed or a limit is exceeded
+     */
+    public int validate(ByteBuffer buffer, int off, int len) {
+        Objects.checkFromIndexSize(off, len, buffer.limit());
+        int end = off + len;
+        int idx = off;
+        int depth = 0;
+        int count = 0;
+        while (true) {
+            while (idx == end) {
+                if (depth == 0) {
+                    return count;
+                }
+                end = containerEnds[--depth];
+            }
+            final long prefix = RLPDecoder.decodePrefix(buffer, idx, end, lenient);
+            checkCount(++count);
+            final int dataIndex = RLPDecoder.dataIndex(prefix);
+            final int dataLength = RLPDecoder.dataLength(prefix);
+            if (DataType.type(buffer.get(idx)).isString) {
+                checkStringLength(dataLength, idx);
+                idx = dataIndex + dataLength;
+            } else {
+                push(depth++, end, idx);
+                end = dataIndex + dataLength;
+                idx = dataIndex;
+            }
+        }
+    }
+
+    private void checkCount(int count) {
+        if (count > maxItems) {
+            throw new IllegalArgumentException("exceeds max items: " + maxItems);
+        }
+    }
+
+    private void checkStringLength(int dataLength, int index) {
+        if (dataLength > maxStringLength) {
+            throw new IllegalArgumentException("string @ " + index + " exceeds max length: " + dataLength + " > " + maxStringLength);
+        }
+    }
+
+    private void push(int depth, int containerEnd, int index) {
+        if (depth == maxDepth) {
+            throw new IllegalArgumentException("list @ " + index + " exceeds max depth: " + maxDepth);
+        }
+        if (depth == containerEnds.length) {
+            containerEnds = Arrays.copyOf(containerEnds, depth << 1);
+        }
+        containerEnds[depth] = containerEnd;
+    }
+}
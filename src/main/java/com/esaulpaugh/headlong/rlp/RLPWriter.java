@@ -0,0 +1,271 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static com.esaulpaugh.headlong.rlp.DataType.LIST_LONG_OFFSET;
+import static com.esaulpaugh.headlong.rlp.DataType.LIST_SHORT_OFFSET;
+import static com.esaulpaugh.headlong.rlp.DataType.MIN_LONG_DATA_LEN;
+import static com.esaulpaugh.headlong.rlp.DataType.STRING_LONG_OFFSET;
+import static com.esaulpaugh.headlong.rlp.DataType.STRING_SHORT_OFFSET;
+
+/**
+ * Incrementally encodes a sequence of RLP items into a growable buffer, without first building an object tree. A list
+ * is opened with {@link #beginList()}, which reserves one byte for its prefix, and closed with {@link #endList()},
+ * which writes the prefix in place, shifting the list's data right if a long prefix is needed. Not thread-safe.
+ *
+ * <pre>{@code
+ * byte[] rlp = new RLPWriter()
+ *         .beginList()
+ *             .writeLong(nonce)
+ *             .writeBigInt(gasPrice)
+ *             .writeString(to)
+ *         .endList()
+ *         .toByteArray();
+ * }</pre>
+ */
+public final class RLPWriter {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private byte[] buffer;
+    private int count;
+
+    private int[] listStarts = new int[8];
+    private int depth;
+
+    public RLPWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity   the initial size of the buffer, in bytes
+     */
+    public RLPWriter(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("negative capacity: " + initialCapacity);
+        }
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Opens a new list. Items written until the matching {@link #endList()} become its elements.
+     *
+     * @return  this writer
+     */
+    public RLPWriter beginList() {
+        if (depth == listStarts.length) {
+            listStarts = Arrays.copyOf(listStarts, depth << 1);
+        }
+        ensureCapacity(1);
+        listStarts[depth++] = count++;
+        return this;
+    }
+
+    /**
+     * Closes the innermost open list, writing its prefix.
+     *
+     * @return  this writer
+     * @throws IllegalStateException    if no list is open
+     */
+    public RLPWriter endList() {
+        if (depth == 0) {
+            throw new IllegalStateException("no open list");
+        }
+        final int prefixIdx = listStarts[--depth];
+        final int dataIdx = prefixIdx + 1;
+        final int dataLen = count - dataIdx;
+        if (dataLen < MIN_LONG_DATA_LEN) {
+            buffer[prefixIdx] = (byte) (LIST_SHORT_OFFSET + dataLen);
+        } else {
+            final int lengthOfLength = Integers.len(dataLen);
+            ensureCapacity(lengthOfLength);
+            System.arraycopy(buffer, dataIdx, buffer, dataIdx + lengthOfLength, dataLen);
+            buffer[prefixIdx] = (byte) (LIST_LONG_OFFSET + lengthOfLength);
+            Integers.putLong(dataLen, buffer, dataIdx);
+            count += lengthOfLength;
+        }
+        return this;
+    }
+
+    public RLPWriter writeString(byte[] byteString) {
+        return writeString(byteString, 0, byteString.length);
+    }
+
+    /**
+     * Writes the specified range of bytes as a single RLP string item.
+     *
+     * @param src   the array containing the string
+     * @param offset    the index of the string
+     * @param len   the length of the string
+     * @return  this writer
+     */
+    public RLPWriter writeString(byte[] src, int offset, int len) {
+        if (len == 1 && DataType.isSingleByte(src[offset])) {
+            ensureCapacity(1);
+            buffer[count++] = src[offset];
+            return this;
+        }
+        putStringPrefix(len);
+        System.arraycopy(src, offset, buffer, count, len);
+        count += len;
+        return this;
+    }
+
+    /**
+     * Writes the minimal big-endian two's complement representation of {@code val} as a string item. Zero is written as
+     * the empty string.
+     *
+     * @param val   the integer
+     * @return  this writer
+     * @see Integers#toBytes(long)
+     */
+    public RLPWriter writeLong(long val) {
+        final int len = Integers.len(val);
+        if (len == 1 && DataType.isSingleByte((byte) val)) {
+            ensureCapacity(1);
+            buffer[count++] = (byte) val;
+            return this;
+        }
+        putStringPrefix(len);
+        count += Integers.putLong(val, buffer, count);
+        return this;
+    }
+
+    /**
+     * Writes the minimal big-endian representation of the non-negative {@code val} as a string item. Zero is written
+     * as the empty string.
+     *
+     * @param val   the non-negative integer
+     * @return  this writer
+     * @see Integers#toBytesUnsigned(BigInteger)
+     */
+    public RLPWriter writeBigInt(BigInteger val) {
+        if (val.signum() < 0) {
+            throw new IllegalArgumentException("negative value: " + val);
+        }
+        if (val.bitLength() <= 63) {
+            return writeLong(val.longValue());
+        }
+        final int len = Integers.len(val);
+        putStringPrefix(len);
+        count += Integers.putBigInt(val, buffer, count);
+        return this;
+    }
+
+    /**
+     * Writes an already-encoded item verbatim.
+     *
+     * @param item  the item to copy
+     * @return  this writer
+     */
+    public RLPWriter writeItem(RLPItem item) {
+        final int len = item.encodingLength();
+        ensureCapacity(len);
+        item.copy(buffer, count);
+        count += len;
+        return this;
+    }
+
+    /* appends an already-encoded item without validation */
+    RLPWriter writeRaw(byte[] src, int offset, int len) {
+        ensureCapacity(len);
+        System.arraycopy(src, offset, buffer, count, len);
+        count += len;
+        return this;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private void putStringPrefix(int dataLen) {
+        if (dataLen < MIN_LONG_DATA_LEN) {
+            ensureCapacity(1 + dataLen);
+            buffer[count++] = (byte) (STRING_SHORT_OFFSET + dataLen);
+        } else {
+            final int lengthOfLength = Integers.len(dataLen);
+            ensureCapacity(1 + lengthOfLength + dataLen);
+            buffer[count++] = (byte) (STRING_LONG_OFFSET + lengthOfLength);
+            count += Integers.putLong(dataLen, buffer, count);
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        final long required = (long) count + n;
+        if (required > buffer.length) {
+            if (required > Integer.MAX_VALUE - 8) {
+                throw new ArithmeticException("integer overflow");
+            }
+            buffer = Arrays.copyOf(buffer, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, (long) buffer.length << 1)));
+        }
+    }
+
+    /**
+     * @return  the number of lists opened but not yet closed
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * @return  the number of bytes written so far, including the reserved prefix bytes of open lists
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Discards all content and open lists, retaining the buffer for reuse.
+     */
+    public void reset() {
+        count = 0;
+        depth = 0;
+    }
+
+    private void requireClosed() {
+        if (depth != 0) {
+            throw new IllegalStateException("unclosed lists: " + depth);
+        }
+    }
+
+    /**
+     * @return  a copy of the encoded sequence
+     * @throws IllegalStateException    if any list is still open
+     */
+    public byte[] toByteArray() {
+        requireClosed();
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Writes the encoded sequence to {@code out} without copying it.
+     *
+     * @param out   the destination
+     * @throws IOException  if an I/O error occurs
+     * @throws IllegalStateException    if any list is still open
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        requireClosed();
+        out.write(buffer, 0, count);
+    }
+}
@@ -0,0 +1,407 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A read-only view of a signed Ethereum transaction: legacy, or an EIP-2718 typed envelope of type 1 (EIP-2930),
+ * 2 (EIP-1559), 3 (EIP-4844, in canonical or network form) or 4 (EIP-7702). Wrapping a transaction validates it
+ * strictly and records the location of each field; accessors then read fields directly from the original bytes. The
+ * transaction hash and the signing hash are computed by feeding ranges of the original bytes, plus at most a few bytes
+ * of newly computed prefix, into {@link Keccak}, without re-encoding any field.
+ *
+ * <pre>{@code
+ * TransactionEnvelope tx = TransactionEnvelope.wrap(rawTx);
+ * Tuple args = transfer.decodeCall(tx.data());
+ * byte[] sigHash = tx.signingHash(keccak);
+ * }</pre>
+ */
+public final class TransactionEnvelope {
+
+    public static final int LEGACY = 0;
+    public static final int ACCESS_LIST = 1;
+    public static final int DYNAMIC_FEE = 2;
+    public static final int BLOB = 3;
+    public static final int SET_CODE = 4;
+
+    private static final int[] FIELD_COUNTS = { 9, 11, 12, 14, 13 };
+    /* for each type, a bit set of the fields which are lists */
+    private static final int[] LIST_FIELDS = { 0, 1 << 7, 1 << 8, (1 << 8) | (1 << 10), (1 << 8) | (1 << 9) };
+    private static final int SIGNATURE_FIELDS = 3;
+    private static final int MAX_LIST_PREFIX_LEN = 1 + Integer.BYTES;
+
+    private final byte[] buffer;
+    private final int index;
+    private final int end;
+    private final int type;
+    private final int payloadIndex; // the signed list, which differs from the outer list only for blob transactions in network form
+    private final int payloadEnd;
+    private final int[] fieldStarts; // one per field, plus the end of the last
+    private final long[] fieldPrefixes;
+
+    private TransactionEnvelope(byte[] buffer, int index, int end, int type, int payloadIndex, int payloadEnd, int[] fieldStarts, long[] fieldPrefixes) {
+        this.buffer = buffer;
+        this.index = index;
+        this.end = end;
+        this.type = type;
+        this.payloadIndex = payloadIndex;
+        this.payloadEnd = payloadEnd;
+        this.fieldStarts = fieldStarts;
+        this.fieldPrefixes = fieldPrefixes;
+    }
+
+    public static TransactionEnvelope wrap(byte[] buffer) {
+        return wrap(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Wraps the transaction occupying {@code len} bytes of {@code buffer} starting at {@code index}. The bytes are not
+     * copied and must not be modified while the view is in use.
+     *
+     * @param buffer    the array containing the transaction
+     * @param index the index of the transaction
+     * @param len   the length of the transaction
+     * @return  a view of the transaction
+     * @throws IllegalArgumentException if the transaction is malformed or of an unsupported type
+     */
+    public static TransactionEnvelope wrap(byte[] buffer, int index, int len) {
+        Objects.checkFromIndexSize(index, len, buffer.length);
+        if (len == 0) {
+            throw new IllegalArgumentException("empty transaction");
+        }
+        final int end = index + len;
+        final int lead = buffer[index] & 0xFF;
+        final int type;
+        final int listIndex;
+        if (lead >= (DataType.LIST_SHORT_OFFSET & 0xFF)) {
+            type = LEGACY;
+            listIndex = index;
+        } else if (lead >= ACCESS_LIST && lead <= SET_CODE) {
+            type = lead;
+            listIndex = index + 1;
+            if (listIndex == end) {
+                throw new IllegalArgumentException("missing payload");
+            }
+        } else {
+            throw new IllegalArgumentException("unsupported transaction type: " + lead);
+        }
+        final int listEnd = requireList(buffer, listIndex, end);
+        if (listEnd != end) {
+            throw new IllegalArgumentException("trailing bytes @ " + listEnd);
+        }
+        int payloadIndex = listIndex;
+        int payloadEnd = listEnd;
+        int idx = RLPDecoder.dataIndex(RLPDecoder.decodePrefix(buffer, listIndex, end, false));
+        if (type == BLOB && idx < end && !DataType.type(buffer[idx]).isString) {
+            // network form: [tx_payload_body, blobs, commitments, proofs]
+            payloadIndex = idx;
+            payloadEnd = requireList(buffer, idx, end);
+            final int sidecarItems = countItems(buffer, payloadEnd, end);
+            if (sidecarItems != 3) {
+                throw new IllegalArgumentException("blob transaction network form: expected 3 sidecar items, found " + sidecarItems);
+            }
+            idx = RLPDecoder.dataIndex(RLPDecoder.decodePrefix(buffer, payloadIndex, end, false));
+        }
+        final int fieldCount = FIELD_COUNTS[type];
+        final int[] starts = new int[fieldCount + 1];
+        final long[] prefixes = new long[fieldCount];
+        final int listFields = LIST_FIELDS[type];
+        int i = 0;
+        for ( ; i < fieldCount && idx < payloadEnd; i++) {
+            final long prefix = RLPDecoder.decodePrefix(buffer, idx, payloadEnd, false);
+            final boolean isList = !DataType.type(buffer[idx]).isString;
+            if (isList != ((listFields >>> i & 1) != 0)) {
+                throw new IllegalArgumentException("type " + type + " field " + i + ": expected " + (isList ? "string" : "list") + " @ " + idx);
+            }
+            starts[i] = idx;
+            prefixes[i] = prefix;
+            idx = RLPDecoder.dataIndex(prefix) + RLPDecoder.dataLength(prefix);
+        }
+        final int found = i + countItems(buffer, idx, payloadEnd);
+        if (found != fieldCount) {
+            throw new IllegalArgumentException("type " + type + ": expected " + fieldCount + " fields, found " + found);
+        }
+        starts[fieldCount] = idx;
+        return new TransactionEnvelope(buffer, index, end, type, payloadIndex, payloadEnd, starts, prefixes);
+    }
+
+    private static int requireList(byte[] buffer, int index, int containerEnd) {
+        final long prefix = RLPDecoder.decodePrefix(buffer, index, containerEnd, false);
+        if (DataType.type(buffer[index]).isString) {
+            throw new IllegalArgumentException("expected list @ " + index);
+        }
+        return RLPDecoder.dataIndex(prefix) + RLPDecoder.dataLength(prefix);
+    }
+
+    private static int countItems(byte[] buffer, int index, int end) {
+        int count = 0;
+        while (index < end) {
+            final long prefix = RLPDecoder.decodePrefix(buffer, index, end, false);
+            index = RLPDecoder.dataIndex(prefix) + RLPDecoder.dataLength(prefix);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return  the EIP-2718 transaction type, or {@link #LEGACY}
+     */
+    public int type() {
+        return type;
+    }
+
+    /**
+     * @return  the number of fields in the signed payload, including the three signature fields
+     */
+    public int fieldCount() {
+        return fieldStarts.length - 1;
+    }
+
+    /**
+     * @param i the index of the field within the signed payload
+     * @return  a view of the field
+     */
+    public RLPItem field(int i) {
+        Objects.checkIndex(i, fieldCount());
+        final long prefix = fieldPrefixes[i];
+        final int dataIndex = RLPDecoder.dataIndex(prefix);
+        final int dataLength = RLPDecoder.dataLength(prefix);
+        final int start = fieldStarts[i];
+        return DataType.type(buffer[start]).isString
+                ? new RLPString(buffer, start, dataIndex, dataLength, dataIndex + dataLength)
+                : new RLPList(buffer, start, dataIndex, dataLength, dataIndex + dataLength);
+    }
+
+    /**
+     * Returns the chain id, which for a legacy transaction is derived from {@code v} per EIP-155.
+     *
+     * @return  the chain id, or zero for a legacy transaction without replay protection
+     */
+    public long chainId() {
+        if (type != LEGACY) {
+            return uint64(0);
+        }
+        final long v = v();
+        return v >= 35 ? (v - 35) >>> 1 : 0L;
+    }
+
+    public long nonce() {
+        return uint64(base());
+    }
+
+    /**
+     * @return  the gas price of a legacy or access list transaction, or the max fee per gas of any later type
+     */
+    public BigInteger maxFeePerGas() {
+        return bigInt(base() + 1 + feeShift());
+    }
+
+    /**
+     * @return  the max priority fee per gas, which for a legacy or access list transaction is the gas price
+     */
+    public BigInteger maxPriorityFeePerGas() {
+        return bigInt(base() + 1);
+    }
+
+    public long gasLimit() {
+        return uint64(base() + 2 + feeShift());
+    }
+
+    /**
+     * @return  a copy of the recipient address, or null if the transaction creates a contract
+     */
+    public byte[] to() {
+        final int dataLength = RLPDecoder.dataLength(fieldPrefixes[base() + 3 + feeShift()]);
+        return dataLength == 0 ? null : bytes(base() + 3 + feeShift());
+    }
+
+    public BigInteger value() {
+        return bigInt(base() + 4 + feeShift());
+    }
+
+    /**
+     * Returns the call data (or init code) as a read-only buffer whose position is zero and whose limit is the length
+     * of the data, sharing the original bytes, e.g. for {@link com.esaulpaugh.headlong.abi.Function#decodeCall(ByteBuffer)}.
+     *
+     * @return  a zero-copy view of the call data
+     */
+    public ByteBuffer data() {
+        final long prefix = fieldPrefixes[base() + 5 + feeShift()];
+        return ByteBuffer.wrap(buffer, RLPDecoder.dataIndex(prefix), RLPDecoder.dataLength(prefix)).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return  the access list, or null for a legacy transaction
+     */
+    public RLPList accessList() {
+        return type == LEGACY ? null : field(base() + 6 + feeShift()).asRLPList();
+    }
+
+    /**
+     * @return  the max fee per blob gas, or null unless this is a blob transaction
+     */
+    public BigInteger maxFeePerBlobGas() {
+        return type == BLOB ? bigInt(9) : null;
+    }
+
+    /**
+     * @return  the list of blob versioned hashes, or null unless this is a blob transaction
+     */
+    public RLPList blobVersionedHashes() {
+        return type == BLOB ? field(10).asRLPList() : null;
+    }
+
+    /**
+     * @return  whether this is a blob transaction in network form, i.e. with blobs, commitments and proofs attached
+     */
+    public boolean hasBlobSidecar() {
+        return type == BLOB && payloadIndex != index + 1;
+    }
+
+    /**
+     * @return  the EIP-7702 authorization list, or null unless this is a set code transaction
+     */
+    public RLPList authorizationList() {
+        return type == SET_CODE ? field(9).asRLPList() : null;
+    }
+
+    /**
+     * @return  {@code v} for a legacy transaction, otherwise the y parity of the signature
+     */
+    public long v() {
+        return uint64(fieldCount() - SIGNATURE_FIELDS);
+    }
+
+    public BigInteger r() {
+        return bigInt(fieldCount() - 2);
+    }
+
+    public BigInteger s() {
+        return bigInt(fieldCount() - 1);
+    }
+
+    /**
+     * @return  the length of the wrapped transaction in bytes
+     */
+    public int encodingLength() {
+        return end - index;
+    }
+
+    /**
+     * @return  a copy of the wrapped transaction
+     */
+    public byte[] encoding() {
+        return Arrays.copyOfRange(buffer, index, end);
+    }
+
+    public byte[] hash() {
+        return hash(new Keccak(256));
+    }
+
+    /**
+     * Computes the transaction hash: the Keccak-256 hash of the legacy list or of the typed envelope. For a blob
+     * transaction in network form, the sidecar is excluded.
+     *
+     * @param keccak    the digest to use, which is reset before use
+     * @return  the 32-byte transaction hash
+     */
+    public byte[] hash(Keccak keccak) {
+        keccak.reset();
+        if (type != LEGACY) {
+            keccak.update((byte) type);
+        }
+        keccak.update(buffer, payloadIndex, payloadEnd - payloadIndex);
+        return keccak.digest();
+    }
+
+    public byte[] signingHash() {
+        return signingHash(new Keccak(256));
+    }
+
+    /**
+     * Computes the hash signed by the sender: the Keccak-256 hash of the type byte (if any) followed by the list of
+     * unsigned fields, to which a legacy transaction with replay protection appends its chain id and two empty strings
+     * per EIP-155. The unsigned fields are hashed in place, preceded by a newly computed list prefix.
+     *
+     * @param keccak    the digest to use, which is reset before use
+     * @return  the 32-byte signing hash
+     * @throws IllegalArgumentException if this is a legacy transaction with an invalid {@code v}
+     */
+    public byte[] signingHash(Keccak keccak) {
+        final int unsignedStart = fieldStarts[0];
+        final int unsignedLen = fieldStarts[fieldCount() - SIGNATURE_FIELDS] - unsignedStart;
+        byte[] suffix = null;
+        if (type == LEGACY) {
+            final long v = v();
+            if (v >= 35) {
+                final byte[] chainId = RLPEncoder.string(Integers.toBytes((v - 35) >>> 1));
+                suffix = Arrays.copyOf(chainId, chainId.length + 2);
+                suffix[chainId.length] = suffix[chainId.length + 1] = DataType.STRING_SHORT_OFFSET;
+            } else if (v != 27 && v != 28) {
+                throw new IllegalArgumentException("invalid v: " + v);
+            }
+        }
+        final int dataLen = suffix == null ? unsignedLen : unsignedLen + suffix.length;
+        final ByteBuffer prefix = ByteBuffer.allocate(MAX_LIST_PREFIX_LEN);
+        RLPEncoder.insertListPrefix(dataLen, prefix);
+        keccak.reset();
+        if (type != LEGACY) {
+            keccak.update((byte) type);
+        }
+        keccak.update(prefix.array(), 0, prefix.position());
+        keccak.update(buffer, unsignedStart, unsignedLen);
+        if (suffix != null) {
+            keccak.update(suffix);
+        }
+        return keccak.digest();
+    }
+
+    /* the index of the nonce, i.e. of the first field after the chain id */
+    private int base() {
+        return type == LEGACY ? 0 : 1;
+    }
+
+    /* the number of fields by which a dynamic fee transaction's later fields are shifted relative to gasPrice */
+    private int feeShift() {
+        return type >= DYNAMIC_FEE ? 1 : 0;
+    }
+
+    private long uint64(int field) {
+        final long prefix = fieldPrefixes[field];
+        final int dataLength = RLPDecoder.dataLength(prefix);
+        if (dataLength > Long.BYTES) {
+            throw new IllegalArgumentException("field " + field + " exceeds 64 bits");
+        }
+        return Integers.getLong(buffer, RLPDecoder.dataIndex(prefix), dataLength, false);
+    }
+
+    private BigInteger bigInt(int field) {
+        final long prefix = fieldPrefixes[field];
+        return Integers.getBigInt(buffer, RLPDecoder.dataIndex(prefix), RLPDecoder.dataLength(prefix), false);
+    }
+
+    private byte[] bytes(int field) {
+        final int dataIndex = RLPDecoder.dataIndex(fieldPrefixes[field]);
+        return Arrays.copyOfRange(buffer, dataIndex, dataIndex + RLPDecoder.dataLength(fieldPrefixes[field]));
+    }
+}
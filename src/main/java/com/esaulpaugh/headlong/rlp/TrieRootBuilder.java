@@ -0,0 +1,463 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Strings;
+import com.joemelsha.crypto.hash.Keccak;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes the root hash of an Ethereum Merkle-Patricia trie from keys inserted in strictly increasing order, as for
+ * transaction, receipt and withdrawal roots. Only the rightmost path of the trie is held in memory: whenever a key is
+ * inserted, every subtree to its left is complete and is immediately encoded, hashed with {@link Keccak}, and replaced
+ * by its reference (either its encoding, if shorter than 32 bytes, or its hash). Node objects and the encoding buffer
+ * are pooled and reused across insertions and across {@link #reset()}s. Not thread-safe.
+ * <p>
+ * Keys must be prefix-free, i.e. no key may be a prefix of another, which holds for RLP-encoded indices and for
+ * fixed-length keys. Values must be non-empty.
+ */
+public final class TrieRootBuilder {
+
+    /** The root of the empty trie: the Keccak-256 hash of the RLP encoding of the empty string. */
+    public static final byte[] EMPTY_ROOT = FastHex.decode("56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421");
+
+    static final int HASH_LEN = 32;
+    static final int MAX_REF_LEN = 1 + HASH_LEN;
+    private static final int PARALLEL_THRESHOLD = 128;
+    private static final byte HASH_PREFIX = (byte) (DataType.STRING_SHORT_OFFSET + HASH_LEN);
+
+    private static final int EMPTY = 0;
+    private static final int LEAF = 1;
+    private static final int EXTENSION = 2;
+    private static final int BRANCH = 3;
+    private static final int HASHED = 4;
+
+    private static final class Node {
+        int type;
+        byte[] path; // nibbles, shared with the key from which this node was split
+        int pathOff;
+        int pathLen;
+        byte[] value;
+        final Node[] children = new Node[16]; // an extension's child is at index 0
+        final byte[] ref = new byte[MAX_REF_LEN];
+        int refLen;
+    }
+
+    private final Keccak keccak = new Keccak(256);
+    private final RLPWriter writer = new RLPWriter(512);
+    private final List<Node> pool = new ArrayList<>();
+    private byte[] hexPrefix = new byte[MAX_REF_LEN];
+
+    private Node root = newNode(EMPTY);
+    private byte[] lastKey;
+    private int lastKeyOff;
+    private int count;
+
+    /**
+     * Inserts a key-value pair. {@code key} must be greater, as an unsigned byte string, than every key previously
+     * inserted since the last {@link #reset()}, and must not have any of them as a prefix.
+     *
+     * @param key   the key
+     * @param value the non-empty value, e.g. an RLP-encoded transaction
+     * @return  this builder
+     * @throws IllegalArgumentException if the key is out of order or the value is empty
+     */
+    public TrieRootBuilder put(byte[] key, byte[] value) {
+        putNibbles(toNibbles(key), 0, value);
+        return this;
+    }
+
+    /* inserts the key nibbles[from:] into the subtrie rooted at this builder */
+    void putNibbles(byte[] nibbles, int from, byte[] value) {
+        if (value.length == 0) {
+            throw new IllegalArgumentException("empty value");
+        }
+        if (lastKey != null) {
+            checkOrder(lastKey, lastKeyOff, nibbles, from);
+        }
+        insert(root, nibbles, from, value);
+        lastKey = nibbles;
+        lastKeyOff = from;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Finishes the trie and returns its root hash. The builder must be {@link #reset()} before reuse.
+     *
+     * @return  the 32-byte root hash
+     */
+    public byte[] root() {
+        if (root.type == EMPTY) {
+            return Arrays.copyOf(EMPTY_ROOT, HASH_LEN);
+        }
+        hash(root);
+        if (root.refLen == MAX_REF_LEN) {
+            return Arrays.copyOfRange(root.ref, 1, MAX_REF_LEN);
+        }
+        keccak.update(root.ref, 0, root.refLen);
+        return keccak.digest();
+    }
+
+    /* finishes the subtrie and returns the RLP item by which its parent refers to it, or null if it is empty */
+    byte[] rootRef() {
+        if (root.type == EMPTY) {
+            return null;
+        }
+        hash(root);
+        return Arrays.copyOf(root.ref, root.refLen);
+    }
+
+    /**
+     * Discards all entries, retaining pooled nodes and buffers for reuse.
+     */
+    public void reset() {
+        release(root);
+        root = newNode(EMPTY);
+        lastKey = null;
+        count = 0;
+    }
+
+    /**
+     * Computes the root of the trie which maps each RLP-encoded index to the element at that index, as for the
+     * transactions, receipts and withdrawals of a block.
+     *
+     * @param values    the non-empty values, e.g. the encoded transactions in block order
+     * @return  the 32-byte root hash
+     */
+    public static byte[] orderedRoot(List<byte[]> values) {
+        final TrieRootBuilder builder = new TrieRootBuilder();
+        final int n = values.size();
+        // sorted order of RLP-encoded indices: 0x01..0x7f, then 0x80 (zero), then 0x8180 onward
+        for (int i = 1; i < Math.min(n, 0x80); i++) {
+            builder.put(RLPEncoder.string(i), values.get(i));
+        }
+        if (n > 0) {
+            builder.put(RLPEncoder.string(new byte[0]), values.get(0));
+        }
+        for (int i = 0x80; i < n; i++) {
+            builder.put(RLPEncoder.string(i), values.get(i));
+        }
+        return builder.root();
+    }
+
+    /**
+     * Computes the same root as {@link #orderedRoot(List)}, hashing independent subtries in parallel.
+     *
+     * @param values    the non-empty values, e.g. the encoded transactions in block order
+     * @param pool  the pool on which to hash subtries
+     * @return  the 32-byte root hash
+     * @see #root(List, List, ForkJoinPool)
+     */
+    public static byte[] orderedRoot(List<byte[]> values, ForkJoinPool pool) {
+        final int n = values.size();
+        final List<byte[]> keys = new ArrayList<>(n);
+        final List<byte[]> sortedValues = new ArrayList<>(n);
+        for (int i = 1; i < Math.min(n, 0x80); i++) {
+            keys.add(RLPEncoder.string(i));
+            sortedValues.add(values.get(i));
+        }
+        if (n > 0) {
+            keys.add(RLPEncoder.string(new byte[0]));
+            sortedValues.add(values.get(0));
+        }
+        for (int i = 0x80; i < n; i++) {
+            keys.add(RLPEncoder.string(i));
+            sortedValues.add(values.get(i));
+        }
+        return root(keys, sortedValues, pool);
+    }
+
+    /**
+     * Computes the root of the trie holding the given entries by partitioning the keys on their first nibble (or, for
+     * large partitions, recursively on subsequent nibbles), hashing the resulting subtries in parallel on
+     * {@code pool}, and combining their references into branch nodes. The result is identical to inserting the
+     * entries into a {@link TrieRootBuilder} one by one.
+     *
+     * @param keys  the keys, in strictly increasing order and prefix-free
+     * @param values    the non-empty values corresponding to the keys
+     * @param pool  the pool on which to hash subtries
+     * @return  the 32-byte root hash
+     * @throws IllegalArgumentException if the keys are out of order or not prefix-free or a value is empty
+     */
+    public static byte[] root(List<byte[]> keys, List<byte[]> values, ForkJoinPool pool) {
+        return root(keys, values, pool, PARALLEL_THRESHOLD);
+    }
+
+    static byte[] root(List<byte[]> keys, List<byte[]> values, ForkJoinPool pool, int threshold) {
+        final int n = keys.size();
+        if (values.size() != n) {
+            throw new IllegalArgumentException("keys and values differ in size: " + n + " != " + values.size());
+        }
+        final byte[][] nibbles = new byte[n][];
+        final byte[][] vals = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            nibbles[i] = toNibbles(keys.get(i));
+            vals[i] = values.get(i);
+            if (vals[i].length == 0) {
+                throw new IllegalArgumentException("empty value");
+            }
+            if (i > 0) {
+                checkOrder(nibbles[i - 1], 0, nibbles[i], 0);
+            }
+        }
+        if (n == 0) {
+            return Arrays.copyOf(EMPTY_ROOT, HASH_LEN);
+        }
+        final byte[] ref = pool.invoke(new ParallelTrieHasher(nibbles, vals, 0, n, 0, threshold));
+        return ref.length == MAX_REF_LEN
+                ? Arrays.copyOfRange(ref, 1, MAX_REF_LEN)
+                : new Keccak(256).digest(ref);
+    }
+
+    static byte[] toNibbles(byte[] key) {
+        final byte[] nibbles = new byte[key.length * 2];
+        for (int i = 0, j = 0; i < key.length; i++) {
+            nibbles[j++] = (byte) ((key[i] >>> 4) & 0x0f);
+            nibbles[j++] = (byte) (key[i] & 0x0f);
+        }
+        return nibbles;
+    }
+
+    private static void checkOrder(byte[] prev, int prevOff, byte[] key, int off) {
+        final int prevLen = prev.length - prevOff;
+        final int len = key.length - off;
+        final int min = Math.min(prevLen, len);
+        for (int i = 0; i < min; i++) {
+            final int a = prev[prevOff + i];
+            final int b = key[off + i];
+            if (a != b) {
+                if (a > b) {
+                    throw new IllegalArgumentException("keys must be inserted in increasing order");
+                }
+                return;
+            }
+        }
+        throw new IllegalArgumentException(prevLen == len ? "duplicate key" : "keys must be prefix-free");
+    }
+
+    private void insert(Node st, byte[] key, int pos, byte[] value) {
+        switch (st.type) {
+        case BRANCH: {
+            final int idx = key[pos];
+            for (int i = idx - 1; i >= 0; i--) { // the nearest elder sibling is complete
+                final Node sibling = st.children[i];
+                if (sibling != null) {
+                    hash(sibling);
+                    break;
+                }
+            }
+            final Node child = st.children[idx];
+            if (child == null) {
+                st.children[idx] = leaf(key, pos + 1, value);
+            } else {
+                insert(child, key, pos + 1, value);
+            }
+            return;
+        }
+        case EXTENSION: {
+            final int diff = diffIndex(st, key, pos);
+            if (diff == st.pathLen) {
+                insert(st.children[0], key, pos + diff, value);
+                return;
+            }
+            final Node complete;
+            if (diff < st.pathLen - 1) {
+                complete = newNode(EXTENSION);
+                setPath(complete, st.path, st.pathOff + diff + 1, st.pathLen - diff - 1);
+                complete.children[0] = st.children[0];
+            } else {
+                complete = st.children[0];
+            }
+            hash(complete);
+            final Node branch;
+            if (diff == 0) {
+                st.children[0] = null;
+                st.type = BRANCH;
+                branch = st;
+            } else {
+                branch = newNode(BRANCH);
+                st.children[0] = branch;
+            }
+            branch.children[st.path[st.pathOff + diff]] = complete;
+            branch.children[key[pos + diff]] = leaf(key, pos + diff + 1, value);
+            st.pathLen = diff;
+            return;
+        }
+        case LEAF: {
+            final int diff = diffIndex(st, key, pos);
+            final Node complete = leaf(st.path, st.pathOff + diff + 1, st.value);
+            hash(complete);
+            final Node branch;
+            if (diff == 0) {
+                st.type = BRANCH;
+                branch = st;
+            } else {
+                st.type = EXTENSION;
+                branch = newNode(BRANCH);
+                st.children[0] = branch;
+            }
+            branch.children[st.path[st.pathOff + diff]] = complete;
+            branch.children[key[pos + diff]] = leaf(key, pos + diff + 1, value);
+            st.pathLen = diff;
+            st.value = null;
+            return;
+        }
+        case EMPTY:
+            st.type = LEAF;
+            setPath(st, key, pos, key.length - pos);
+            st.value = value;
+            return;
+        default: throw new IllegalStateException("cannot insert into hashed subtrie");
+        }
+    }
+
+    private static int diffIndex(Node st, byte[] key, int pos) {
+        int i = 0;
+        while (i < st.pathLen && st.path[st.pathOff + i] == key[pos + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /* replaces the subtrie rooted at n with its reference, releasing its descendants */
+    private void hash(Node n) {
+        switch (n.type) {
+        case HASHED: return;
+        case EXTENSION: hash(n.children[0]); break;
+        case BRANCH:
+            for (Node c : n.children) {
+                if (c != null) {
+                    hash(c);
+                }
+            }
+            break;
+        default:
+        }
+        final RLPWriter w = writer;
+        w.reset();
+        w.beginList();
+        switch (n.type) {
+        case LEAF:
+            writeHexPrefix(n, true);
+            w.writeString(n.value);
+            break;
+        case EXTENSION:
+            writeHexPrefix(n, false);
+            writeRef(n.children[0]);
+            break;
+        default:
+            for (Node c : n.children) {
+                if (c == null) {
+                    w.writeString(Strings.EMPTY_BYTE_ARRAY);
+                } else {
+                    writeRef(c);
+                }
+            }
+            w.writeString(Strings.EMPTY_BYTE_ARRAY);
+        }
+        w.endList();
+        setRef(n, w.buffer(), w.size());
+        for (int i = 0; i < n.children.length; i++) {
+            final Node c = n.children[i];
+            if (c != null) {
+                release(c);
+                n.children[i] = null;
+            }
+        }
+        n.type = HASHED;
+        n.path = null;
+        n.value = null;
+    }
+
+    private void setRef(Node n, byte[] encoding, int len) {
+        if (len < HASH_LEN) {
+            System.arraycopy(encoding, 0, n.ref, 0, len);
+            n.refLen = len;
+        } else {
+            keccak.update(encoding, 0, len);
+            keccak.digest(ByteBuffer.wrap(n.ref, 1, HASH_LEN));
+            n.ref[0] = HASH_PREFIX;
+            n.refLen = MAX_REF_LEN;
+        }
+    }
+
+    private void writeRef(Node child) {
+        writer.writeRaw(child.ref, 0, child.refLen);
+    }
+
+    private void writeHexPrefix(Node n, boolean leaf) {
+        final int len = n.pathLen;
+        final int encodedLen = len / 2 + 1;
+        if (encodedLen > hexPrefix.length) {
+            hexPrefix = new byte[encodedLen];
+        }
+        final int flag = leaf ? 0x20 : 0x00;
+        int i = n.pathOff;
+        final int end = i + len;
+        if ((len & 1) != 0) {
+            hexPrefix[0] = (byte) (flag | 0x10 | n.path[i++]);
+        } else {
+            hexPrefix[0] = (byte) flag;
+        }
+        for (int j = 1; i < end; i += 2) {
+            hexPrefix[j++] = (byte) ((n.path[i] << 4) | n.path[i + 1]);
+        }
+        writer.writeString(hexPrefix, 0, encodedLen);
+    }
+
+    private Node leaf(byte[] key, int pos, byte[] value) {
+        final Node n = newNode(LEAF);
+        setPath(n, key, pos, key.length - pos);
+        n.value = value;
+        return n;
+    }
+
+    private static void setPath(Node n, byte[] path, int off, int len) {
+        n.path = path;
+        n.pathOff = off;
+        n.pathLen = len;
+    }
+
+    private Node newNode(int type) {
+        final Node n = pool.isEmpty() ? new Node() : pool.remove(pool.size() - 1);
+        n.type = type;
+        return n;
+    }
+
+    private void release(Node n) {
+        for (int i = 0; i < n.children.length; i++) {
+            final Node c = n.children[i];
+            if (c != null) {
+                release(c);
+                n.children[i] = null;
+            }
+        }
+        n.path = null;
+        n.value = null;
+        n.refLen = 0;
+        pool.add(n);
+    }
+}
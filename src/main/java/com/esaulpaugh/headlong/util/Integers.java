@@ -335,6 +335,40 @@ public final class Integers {
         }
     }
 
+    /**
+     * Retrieves an integer up to eight bytes in length from the given absolute index of a {@link ByteBuffer}. The
+     * buffer's position is not modified. Big-endian two's complement format.
+     *
+     * @param buffer  the buffer containing the integer's representation
+     * @param offset  the buffer index locating the integer
+     * @param len     the length in bytes of the integer's representation
+     * @param lenient whether to allow leading zeroes
+     * @return the integer
+     * @throws IllegalArgumentException if the integer's representation is found to have leading zeroes
+     * @see #getLong(byte[], int, int, boolean)
+     */
+    public static long getLong(final ByteBuffer buffer, final int offset, final int len, final boolean lenient) {
+        int shiftAmount = 0;
+        long val = 0L;
+        switch (len) { /* cases 8 through 1 fall through */
+        case 8: val  =  buffer.get(offset+7) & 0xFFL;                 shiftAmount  = Byte.SIZE;
+        case 7: val |= (buffer.get(offset+6) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 6: val |= (buffer.get(offset+5) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 5: val |= (buffer.get(offset+4) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 4: val |= (buffer.get(offset+3) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 3: val |= (buffer.get(offset+2) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 2: val |= (buffer.get(offset+1) & 0xFFL) << shiftAmount; shiftAmount += Byte.SIZE;
+        case 1:
+            byte lead = buffer.get(offset);
+            if (!lenient && lead == 0) {
+                throw leadingZeroException(offset, len);
+            }
+            val |= (lead & 0xFFL) << shiftAmount;
+        case 0: return val;
+        default: throw outOfRangeException(len);
+        }
+    }
+
     private static IllegalArgumentException leadingZeroException(int idx, int len) {
         return new IllegalArgumentException("deserialized integers with leading zeroes are invalid; index: " + idx + ", len: " + len);
     }
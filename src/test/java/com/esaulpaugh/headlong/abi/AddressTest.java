@@ -30,6 +30,8 @@ import static com.esaulpaugh.headlong.TestUtils.assertThrown;
 import static com.esaulpaugh.headlong.abi.Address.ADDRESS_BIT_LEN;
 import static com.esaulpaugh.headlong.abi.Address.MAX_LABEL_LEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class AddressTest {
@@ -306,4 +308,42 @@ public class AddressTest {
                 () -> Address.wrap("0x0000000000000000000000000000000000000000", "0123456789012345678901234567890123456"));
         assertEquals(36, MAX_LABEL_LEN);
     }
+
+    @Test
+    public void testPrimitiveRepresentation() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Function f = new Function("foo(address)");
+        for (int i = 0; i < 100; i++) {
+            final BigInteger val = new BigInteger(r.nextInt(ADDRESS_BIT_LEN + 1), r);
+            final Address a = new Address(val);
+            assertEquals(val, a.value());
+            assertEquals(Address.toChecksumAddress(val), a.toString());
+            assertEquals(a, Address.wrap(a.toString()));
+            assertEquals(a.hashCode(), Address.wrap(a.toString(), "x").hashCode());
+            final byte[] bytes = a.toBytes();
+            assertEquals(20, bytes.length);
+            assertEquals(val, new BigInteger(1, bytes));
+            final Single<Address> args = Single.of(a);
+            assertEquals(args, f.decodeCall(f.encodeCall(args)));
+            assertEquals(a, AddressType.INSTANCE.decodePacked(AddressType.INSTANCE.encodePacked(a).array()));
+        }
+        assertThrown(IllegalArgumentException.class, "signed value given for unsigned type", () -> new Address(BigInteger.valueOf(-1L)));
+        assertThrown(IllegalArgumentException.class, "unsigned val exceeds bit limit: 161 > 160", () -> new Address(BigInteger.ONE.shiftLeft(160)));
+
+        final byte[] tooBig = new byte[32];
+        tooBig[11] = 1;
+        assertThrown(IllegalArgumentException.class, "unsigned val exceeds bit limit: 161 > 160", () -> AddressType.INSTANCE.decode(tooBig));
+    }
+
+    @Test
+    public void testAddressPool() throws Throwable {
+        final AddressPool pool = new AddressPool(100);
+        assertEquals(128, pool.capacity());
+        final Address a = Address.wrap("0x5cafEBaBEcafEBabE7570ad8AC11f8d812ee0606");
+        final Address b = Address.wrap("0x5cafEBaBEcafEBabE7570ad8AC11f8d812ee0606");
+        assertNotSame(a, b);
+        assertSame(a, pool.intern(a));
+        assertSame(a, pool.intern(b));
+        assertThrown(IllegalArgumentException.class, "bad capacity: 0", () -> new AddressPool(0));
+    }
 }
@@ -26,8 +26,10 @@ import java.math.BigInteger;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
@@ -42,6 +44,9 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -787,7 +792,7 @@ public class DecodeTest {
                 "        \"name\": \"Stored\",\n" +
                 "        \"type\": \"event\"\n" +
                 "      }");
-        assertThrown(NullPointerException.class, () -> event.decodeArgs(null, null));
+        assertThrown(IllegalArgumentException.class, "expected topics.length 3 but found length 0", () -> event.decodeArgs(null, null));
     }
 
     @Test
@@ -1184,4 +1189,300 @@ public class DecodeTest {
                 () -> BooleanType.INSTANCE.decode(ByteBuffer.wrap(FastHex.decode("0000000000000000000000000000000000000000000000010000000000000000")), newUnitBuffer())
         );
     }
+
+    @Test
+    public void testTryDecode() throws Throwable {
+        final TupleType<Tuple> tt = TupleType.parse("(bool,uint8[],(string,int16)[2])");
+        final Tuple good = Tuple.of(true, new int[] { 1, 255 }, new Tuple[] { Tuple.of("a", -1), Tuple.of("bc", 7) });
+        final byte[] encoded = tt.encode(good).array();
+
+        final DecodeResult<Tuple> ok = tt.tryDecode(encoded);
+        assertTrue(ok.isSuccess());
+        assertEquals(DecodeResult.Status.OK, ok.status());
+        assertEquals(good, ok.get());
+        assertEquals(good, ok.orElse(null));
+        assertEquals(null, ok.message());
+
+        final byte[] badBool = encoded.clone();
+        badBool[31] = 2;
+        assertFailure(DecodeResult.Status.ILLEGAL_VALUE, "tuple index 0: unsigned val exceeds bit limit: 2 > 1", tt, badBool);
+
+        final byte[] badInt16 = encoded.clone();
+        final int int16Word = Integers.roundLengthUp(encoded.length, UNIT_LENGTH_BYTES) - 3 * UNIT_LENGTH_BYTES;
+        badInt16[int16Word] = 1;
+        final String chained = assertFailure(DecodeResult.Status.ILLEGAL_VALUE, null, tt, badInt16);
+        assertTrue(chained.startsWith("tuple index 2: array index 1: tuple index 1: signed val exceeds bit limit: "), chained);
+
+        final byte[] badPadding = encoded.clone();
+        badPadding[badPadding.length - 1] = 1;
+        assertFailure(DecodeResult.Status.NON_ZERO_PADDING, null, tt, badPadding);
+
+        assertFailure(DecodeResult.Status.UNCONSUMED_BYTES, "unconsumed bytes: 1 remaining", tt, Arrays.copyOf(encoded, encoded.length + 1));
+
+        final byte[] hugeArray = encoded.clone();
+        hugeArray[4 * UNIT_LENGTH_BYTES - 2] = 1;
+        assertFailure(DecodeResult.Status.INSUFFICIENT_DATA, "tuple index 1: not enough bytes remaining: ", tt, hugeArray);
+
+        final DecodeResult<Tuple> truncated = tt.tryDecode(Arrays.copyOf(encoded, 40));
+        assertFalse(truncated.isSuccess());
+        assertEquals(DecodeResult.Status.INSUFFICIENT_DATA, truncated.status());
+        assertNull(truncated.orElse(null));
+        assertThrown(IllegalArgumentException.class, truncated.message(), truncated::get);
+
+        final ByteBuffer bb = ByteBuffer.wrap(badBool);
+        bb.position(0);
+        assertFalse(tt.tryDecode(bb).isSuccess());
+        assertEquals(0, bb.position());
+        assertEquals(good, tt.tryDecode(ByteBuffer.wrap(encoded)).get());
+
+        final IllegalArgumentException iae = thrown(() -> tt.decode(badBool));
+        assertTrue(iae.getMessage().startsWith("tuple index 0: "));
+        assertNotNull(iae.getCause());
+        assertTrue(iae.getStackTrace().length > 0);
+
+        final Function f = new Function("foo(uint8,bytes)", "(int8)");
+        final byte[] call = f.encodeCallWithArgs(3, new byte[] { 9 }).array();
+        assertEquals(Tuple.of(3, new byte[] { 9 }), f.tryDecodeCall(call).get());
+        final byte[] wrongSelector = call.clone();
+        wrongSelector[0]++;
+        final DecodeResult<Tuple> mismatch = f.tryDecodeCall(wrongSelector);
+        assertEquals(DecodeResult.Status.SELECTOR_MISMATCH, mismatch.status());
+        assertEquals(thrown(() -> f.decodeCall(wrongSelector)).getMessage(), mismatch.message());
+        assertEquals(DecodeResult.Status.INSUFFICIENT_DATA, f.tryDecodeCall(ByteBuffer.wrap(new byte[2])).status());
+        assertEquals(DecodeResult.Status.INSUFFICIENT_DATA, f.tryDecodeReturn(new byte[UNIT_LENGTH_BYTES - 1]).status());
+        assertEquals(Single.of(-1), f.tryDecodeReturn(f.getOutputs().encode(Single.of(-1)).array()).get());
+
+        final Event<Tuple> event = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final Tuple args = Tuple.of(Address.wrap("0x0000000000000000000000000000000000000001"), Address.wrap("0x0000000000000000000000000000000000000002"), BigInteger.TEN);
+        final byte[][] topics = event.encodeTopics(Tuple.of(args.get(0), args.get(1)));
+        final byte[] data = event.encodeData(Single.of(args.get(2)));
+        assertEquals(args, event.tryDecodeArgs(topics, data).get());
+        assertEquals(DecodeResult.Status.TOPIC_MISMATCH, event.tryDecodeArgs(Arrays.copyOf(topics, 2), data).status());
+        final byte[][] wrongSignature = topics.clone();
+        wrongSignature[0] = new byte[UNIT_LENGTH_BYTES];
+        assertTrue(event.tryDecodeArgs(wrongSignature, data).message().startsWith("unexpected topics[0]: event Transfer(address,address,uint256)"));
+        final DecodeResult<Tuple> log0 = event.tryDecodeArgs(new byte[0][], data);
+        assertEquals(DecodeResult.Status.TOPIC_MISMATCH, log0.status());
+        assertEquals("expected topics.length 3 but found length 0", log0.message());
+        final DecodeResult<Tuple> nullTopics = event.tryDecodeArgs(null, data);
+        assertEquals(DecodeResult.Status.TOPIC_MISMATCH, nullTopics.status());
+        assertEquals("expected topics.length 3 but found length 0", nullTopics.message());
+        final Event<Tuple> anonymous = Event.createAnonymous("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        assertEquals(DecodeResult.Status.TOPIC_MISMATCH, anonymous.tryDecodeArgs(null, data).status());
+        assertEquals(args, anonymous.tryDecodeArgs(Arrays.copyOfRange(topics, 1, 3), data).get());
+    }
+
+    @Test
+    public void testTryDecodeMatchesDecode() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final TupleType<Tuple> tt = TupleType.parse("(uint8,bool[],(bytes,address)[],int24)");
+        final byte[] encoded = tt.encode(Tuple.of(7, new boolean[] { true, false }, new Tuple[] { Tuple.of(new byte[] { 1, 2, 3 }, Address.wrap("0x0000000000000000000000000000000000000003")) }, -5)).array();
+        for (int i = 0; i < 2_000; i++) {
+            final byte[] mutated = encoded.clone();
+            mutated[r.nextInt(mutated.length)] = (byte) r.nextInt();
+            final DecodeResult<Tuple> result = tt.tryDecode(mutated);
+            try {
+                assertEquals(tt.decode(mutated), result.get());
+            } catch (IllegalArgumentException iae) {
+                assertFalse(result.isSuccess());
+                assertEquals(iae.getMessage(), result.message());
+            } catch (BufferUnderflowException bue) {
+                assertEquals(DecodeResult.Status.INSUFFICIENT_DATA, result.status());
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeBudget() throws Throwable {
+        final int n = 100;
+        final int len = 1000;
+        final byte[] aliased = aliasedBytesArray(n, len);
+
+        final TupleType<Single<byte[][]>> tt = TupleType.parse("(bytes[])");
+        final byte[][] decoded = tt.decode(aliased).get0();
+        assertEquals(n, decoded.length);
+        assertEquals(len, decoded[n - 1].length);
+        assertTrue(aliased.length < n * len / 20);
+
+        final DecodeBudget budget = DecodeBudget.of(1_000, 10_000, 8);
+        assertThrown(IllegalArgumentException.class, "tuple index 0: array index 9: decode budget exceeded: bytes 10000 > 9999", () -> tt.decode(aliased, DecodeBudget.of(1_000, 9_999, 8)));
+        assertThrown(IllegalArgumentException.class, "decode budget exceeded: elements 101 > 100", () -> tt.decode(ByteBuffer.wrap(aliased), DecodeBudget.of(100, Long.MAX_VALUE, 8)));
+        final DecodeResult<Single<byte[][]>> result = tt.tryDecode(aliased, budget);
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, result.status());
+        assertEquals("tuple index 0: array index 10: decode budget exceeded: bytes 11000 > 10000", result.message());
+
+        final DecodeBudget roomy = DecodeBudget.of(n + 1, (long) n * len, 3);
+        assertArrayEquals(decoded, tt.decode(aliased, roomy).get0());
+        assertArrayEquals(decoded, tt.decode(aliased, DecodeBudget.UNLIMITED).get0());
+        assertThrown(IllegalArgumentException.class, "decode budget exceeded: depth 3 > 2", () -> tt.decode(aliased, DecodeBudget.of(n + 1, (long) n * len, 2)));
+
+        final Function f = new Function("foo(uint8[][])", "(string)");
+        final int[][] arg = new int[][] { new int[] { 1, 2 }, new int[] { 3 } };
+        final byte[] call = f.encodeCallWithArgs((Object) arg).array();
+        assertArrayEquals(arg, f.decodeCall(call, DecodeBudget.of(6, 0, 3)).get(0));
+        assertThrown(IllegalArgumentException.class, "tuple index 0: array index 1: decode budget exceeded: elements 6 > 5", () -> f.decodeCall(call, DecodeBudget.of(5, 0, 3)));
+        assertThrown(IllegalArgumentException.class, "tuple index 0: array index 0: decode budget exceeded: depth 3 > 2", () -> f.decodeCall(ByteBuffer.wrap(call), DecodeBudget.of(6, 0, 2)));
+        final byte[] ret = f.getOutputs().encode(Single.of("abc")).array();
+        assertEquals("abc", f.decodeReturn(ret, DecodeBudget.of(1, 3, 2)).get(0));
+        assertThrown(IllegalArgumentException.class, "tuple index 0: decode budget exceeded: bytes 3 > 2", () -> f.decodeReturn(ByteBuffer.wrap(ret), DecodeBudget.of(1, 2, 2)));
+
+        final ByteBuffer aliasedBuffer = ByteBuffer.wrap(aliased);
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, tt.tryDecode(aliasedBuffer, budget).status());
+        assertEquals(0, aliasedBuffer.position());
+        assertArrayEquals(decoded, tt.tryDecode(aliasedBuffer, roomy).get().get0());
+        assertEquals(aliased.length, aliasedBuffer.position());
+
+        assertArrayEquals(arg, f.tryDecodeCall(call, DecodeBudget.of(6, 0, 3)).get().get(0));
+        final DecodeResult<Tuple> callOver = f.tryDecodeCall(call, DecodeBudget.of(5, 0, 3));
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, callOver.status());
+        assertEquals("tuple index 0: array index 1: decode budget exceeded: elements 6 > 5", callOver.message());
+        final ByteBuffer callBuffer = ByteBuffer.wrap(call);
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, f.tryDecodeCall(callBuffer, DecodeBudget.of(6, 0, 2)).status());
+        assertEquals(0, callBuffer.position());
+        assertArrayEquals(arg, f.tryDecodeCall(callBuffer, DecodeBudget.of(6, 0, 3)).get().get(0));
+
+        assertEquals("abc", f.tryDecodeReturn(ret, DecodeBudget.of(1, 3, 2)).get().get(0));
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, f.tryDecodeReturn(ret, DecodeBudget.of(1, 2, 2)).status());
+        final ByteBuffer retBuffer = ByteBuffer.wrap(ret);
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, f.tryDecodeReturn(retBuffer, DecodeBudget.of(0, 3, 2)).status());
+        assertEquals(0, retBuffer.position());
+        assertEquals("abc", f.tryDecodeReturn(retBuffer, DecodeBudget.of(1, 3, 2)).get().get(0));
+
+        assertThrown(IllegalArgumentException.class, "limits must be non-negative", () -> DecodeBudget.of(-1, 0, 0));
+        assertEquals(DecodeBudget.of(1, 2, 3), DecodeBudget.of(1, 2, 3));
+        assertEquals(DecodeBudget.of(1, 2, 3).hashCode(), DecodeBudget.of(1, 2, 3).hashCode());
+        assertNotEquals(DecodeBudget.of(1, 2, 3), DecodeBudget.of(1, 2, 4));
+    }
+
+    @Test
+    public void testDecodeMemo() throws Throwable {
+        final TupleType<Single<byte[][]>> tt = TupleType.parse("(bytes[])");
+        final byte[] aliased = aliasedBytesArray(50, 100);
+        final DecodeMemo memo = new DecodeMemo();
+        final byte[][] shared = tt.decode(aliased, memo).get0();
+        assertArrayEquals(tt.decode(aliased).get0(), shared);
+        for (byte[] e : shared) {
+            assertSame(shared[0], e);
+        }
+        assertEquals(51, memo.lookups()); // the array plus each of its elements
+        assertEquals(49, memo.hits());
+        assertEquals(49 * (UNIT_LENGTH_BYTES + 128), memo.reusedBytes()); // length word plus padded data
+        assertEquals(49 / 51.0, memo.hitRate());
+
+        final byte[][] again = tt.decode(ByteBuffer.wrap(aliased), memo).get0();
+        assertNotSame(shared[0], again[0]);
+        assertEquals(102, memo.lookups());
+        assertEquals(98, memo.hits());
+
+        final DecodeResult<Single<byte[][]>> tooBig = tt.tryDecode(aliased, DecodeBudget.of(10, Long.MAX_VALUE, 3));
+        assertEquals(DecodeResult.Status.BUDGET_EXCEEDED, tooBig.status());
+
+        memo.reset();
+        assertEquals(0, memo.lookups());
+        assertEquals(0.0, memo.hitRate());
+
+        final Function f = new Function("aggregate()", "(string[],(uint8,string)[])");
+        final Tuple distinct = Tuple.of(new String[] { "a", "b" }, new Tuple[] { Tuple.of(1, "c") });
+        final byte[] encoded = f.getOutputs().encode(distinct).array();
+        assertEquals(distinct, f.decodeReturn(encoded, memo));
+        assertEquals(6, memo.lookups());
+        assertEquals(0, memo.hits());
+        assertEquals(distinct, f.decodeReturn(ByteBuffer.wrap(encoded), memo));
+        assertEquals(0, memo.hits());
+        assertEquals("DecodeMemo{lookups=12, hits=0, reusedBytes=0}", memo.toString());
+
+        final byte[] truncated = Arrays.copyOf(aliased, aliased.length - 1);
+        assertThrown(IllegalArgumentException.class, "not enough bytes remaining: 127 < 128", () -> tt.decode(truncated, memo));
+    }
+
+    @Test
+    public void testIterate() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final ArrayType<ByteType, Byte, byte[]> bytes32 = TypeFactory.create("bytes32");
+        final ArrayType<ArrayType<ByteType, Byte, byte[]>, byte[], byte[][]> bytes32Array = TypeFactory.create("bytes32[]");
+        final byte[][] hashes = new byte[1000][];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = TestUtils.randomBytes(32, r);
+        }
+        final ByteBuffer bb = bytes32Array.encode(hashes);
+        final Iterator<byte[]> iter = bytes32Array.iterate(bb);
+        for (byte[] hash : hashes) {
+            assertTrue(iter.hasNext());
+            assertArrayEquals(hash, iter.next());
+        }
+        assertFalse(iter.hasNext());
+        assertEquals(0, bb.position());
+        assertArrayEquals(hashes, bytes32Array.stream(bb).toArray(byte[][]::new));
+        assertArrayEquals(hashes, bytes32Array.stream(bb).parallel().toArray(byte[][]::new));
+        assertEquals(Byte.valueOf(hashes[0][31]), bytes32.stream(ByteBuffer.wrap(hashes[0])).skip(31).findFirst().get());
+
+        final Spliterator<byte[]> split = bytes32Array.stream(bb).spliterator();
+        final Spliterator<byte[]> prefix = split.trySplit();
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, split.estimateSize());
+        assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED | Spliterator.IMMUTABLE));
+        assertTrue(prefix.tryAdvance(h -> assertArrayEquals(hashes[0], h)));
+        assertTrue(split.tryAdvance(h -> assertArrayEquals(hashes[500], h)));
+
+        final Function f = new Function("export()", "(uint8,(address,uint256)[],string[2],uint16[3])");
+        final Tuple[] entries = new Tuple[257];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = Tuple.of(Address.wrap(Address.toChecksumAddress(new BigInteger(160, r))), BigInteger.valueOf(i));
+        }
+        final Tuple ret = Tuple.of(7, entries, new String[] { "x", "yz" }, new int[] { 1, 2, 3 });
+        final byte[] encoded = f.getOutputs().encode(ret).array();
+        assertArrayEquals(entries, f.<Tuple>streamReturn(encoded, 1).toArray(Tuple[]::new));
+        assertEquals(entries.length, f.streamReturn(encoded, 1).parallel().count());
+        assertArrayEquals(new String[] { "x", "yz" }, f.<String>streamReturn(encoded, 2).toArray(String[]::new));
+        assertArrayEquals(new Integer[] { 1, 2, 3 }, f.<Integer>streamReturn(ByteBuffer.wrap(encoded), 3).toArray(Integer[]::new));
+        assertThrown(IllegalArgumentException.class, "return type at index 0 is not an array: uint8", () -> f.streamReturn(encoded, 0));
+
+        final byte[] corrupt = encoded.clone();
+        final int lastEntry = encoded.length - UNIT_LENGTH_BYTES * (6 + 2); // string[2] occupies the final six words
+        corrupt[lastEntry] = 1; // address of the final entry
+        final Iterator<Tuple> lazy = f.<Tuple>streamReturn(corrupt, 1).iterator();
+        for (int i = 0; i < entries.length - 1; i++) {
+            assertEquals(entries[i], lazy.next());
+        }
+        assertThrown(IllegalArgumentException.class, "array index 256: tuple index 0: ", lazy::next);
+
+        final byte[] tooLong = encoded.clone();
+        tooLong[UNIT_LENGTH_BYTES * 7 - 2] = 0x10; // length of the dynamic array, now 0x1001
+        assertThrown(IllegalArgumentException.class, "not enough bytes remaining", () -> f.streamReturn(tooLong, 1));
+    }
+
+    private static byte[] aliasedBytesArray(int n, int len) {
+        final ByteBuffer bb = ByteBuffer.allocate(UNIT_LENGTH_BYTES * (3 + n) + Integers.roundLengthUp(len, UNIT_LENGTH_BYTES));
+        putWord(bb, 0, UNIT_LENGTH_BYTES);
+        putWord(bb, 1, n);
+        for (int i = 0; i < n; i++) {
+            putWord(bb, 2 + i, n * UNIT_LENGTH_BYTES); // every offset points at the same bytes
+        }
+        putWord(bb, 2 + n, len);
+        return bb.array();
+    }
+
+    private static void putWord(ByteBuffer bb, int wordIndex, long val) {
+        bb.putLong(wordIndex * UNIT_LENGTH_BYTES + UNIT_LENGTH_BYTES - Long.BYTES, val);
+    }
+
+    private static String assertFailure(DecodeResult.Status status, String messagePrefix, TupleType<Tuple> tt, byte[] encoding) throws Throwable {
+        final DecodeResult<Tuple> result = tt.tryDecode(encoding);
+        assertFalse(result.isSuccess());
+        assertEquals(status, result.status());
+        assertEquals(thrown(() -> tt.decode(encoding)).getMessage(), result.message());
+        if (messagePrefix != null) {
+            assertTrue(result.message().startsWith(messagePrefix), result.message());
+        }
+        return result.message();
+    }
+
+    private static IllegalArgumentException thrown(TestUtils.CustomRunnable r) throws Throwable {
+        try {
+            r.run();
+        } catch (IllegalArgumentException iae) {
+            return iae;
+        }
+        throw new AssertionError("no IllegalArgumentException thrown");
+    }
 }
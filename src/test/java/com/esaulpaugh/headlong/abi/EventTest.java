@@ -15,13 +15,24 @@
 */
 package com.esaulpaugh.headlong.abi;
 
+import com.esaulpaugh.headlong.TestUtils;
 import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Strings;
+import com.joemelsha.crypto.hash.Keccak;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
 import static com.esaulpaugh.headlong.TestUtils.assertThrown;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class EventTest {
 
@@ -68,4 +79,150 @@ public class EventTest {
                 "unconsumed bytes: 2 remaining",
                 () -> Event.fromJson(EVENT_JSON).decodeData(FastHex.decode("000000000000000000000000000000000000000000000000000000000000ffff0d0c")));
     }
+
+    @Test
+    public void testLogsBloom() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final LogsBloom block = new LogsBloom();
+        final byte[] expectedBlock = new byte[LogsBloom.BYTES];
+        final List<Address> addresses = new ArrayList<>();
+        final List<byte[]> topics = new ArrayList<>();
+        final LogsBloom receipt = new LogsBloom();
+        for (int i = 0; i < 20; i++) {
+            receipt.reset();
+            assertTrue(receipt.isEmpty());
+            final byte[] expected = new byte[LogsBloom.BYTES];
+            for (int j = r.nextInt(4); j > 0; j--) {
+                final Address address = new Address(new BigInteger(160, r));
+                final byte[][] logTopics = new byte[r.nextInt(5)][];
+                referenceAdd(expected, address.toBytes());
+                for (int k = 0; k < logTopics.length; k++) {
+                    logTopics[k] = TestUtils.randomBytes(32, r);
+                    referenceAdd(expected, logTopics[k]);
+                    topics.add(logTopics[k]);
+                }
+                receipt.addLog(address, logTopics);
+                addresses.add(address);
+            }
+            assertArrayEquals(expected, receipt.toBytes());
+            assertEquals(receipt, LogsBloom.wrap(expected, 0));
+            block.or(receipt);
+            for (int b = 0; b < LogsBloom.BYTES; b++) {
+                expectedBlock[b] |= expected[b];
+            }
+        }
+        assertArrayEquals(expectedBlock, block.toBytes());
+        assertEquals(FastHex.encodeToString(expectedBlock), block.toString());
+
+        final byte[] padded = new byte[LogsBloom.BYTES + 7];
+        block.putBytes(padded, 7);
+        for (Address a : addresses) {
+            assertTrue(block.mightContain(a));
+            assertTrue(LogsBloom.mask(a).test(padded, 7));
+        }
+        for (byte[] t : topics) {
+            assertTrue(block.mightContain(t));
+            assertTrue(LogsBloom.mask(t).test(LogsBloom.wrap(padded, 7)));
+        }
+        for (int i = 0; i < 200; i++) {
+            final byte[] absent = TestUtils.randomBytes(32, r);
+            final byte[] single = new byte[LogsBloom.BYTES];
+            referenceAdd(single, absent);
+            boolean expected = true;
+            for (int b = 0; b < LogsBloom.BYTES; b++) {
+                expected &= (expectedBlock[b] & single[b]) == single[b];
+            }
+            final LogsBloom.Mask mask = LogsBloom.mask(absent);
+            assertEquals(expected, block.mightContain(mask));
+            assertEquals(expected, mask.test(padded, 7));
+        }
+        assertFalse(new LogsBloom().mightContain(addresses.get(0)));
+        assertThrown(IndexOutOfBoundsException.class, () -> LogsBloom.wrap(new byte[LogsBloom.BYTES], 1));
+    }
+
+    /* per the yellow paper: for each of the first three pairs of bytes of the hash, set the bit given by its low 11 bits */
+    private static void referenceAdd(byte[] bloom, byte[] entry) {
+        final byte[] h = new Keccak(256).digest(entry);
+        for (int i = 0; i < 6; i += 2) {
+            final int bit = ((h[i] & 7) << 8) | (h[i + 1] & 0xFF);
+            bloom[LogsBloom.BYTES - 1 - bit / 8] |= (byte) (1 << (bit % 8));
+        }
+    }
+
+    @Test
+    public void testEncodeTopicsAndData() throws Throwable {
+        final Event<?> transfer = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final Address from = new Address(BigInteger.valueOf(0xf00L));
+        final Address to = new Address(BigInteger.valueOf(0xba5L));
+        final byte[][] topics = transfer.encodeTopics(Tuple.of(from, to));
+        assertEquals("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef", FastHex.encodeToString(topics[0]));
+        assertEquals("0000000000000000000000000000000000000000000000000000000000000f00", FastHex.encodeToString(topics[1]));
+        final byte[] data = transfer.encodeData(Single.of(BigInteger.TEN));
+        assertEquals(Tuple.of(from, to, BigInteger.TEN), transfer.decodeArgs(topics, data));
+
+        final Event<?> ref = Event.createAnonymous("Ref", TupleType.parse("(string,bytes,uint8[],(string,bytes3),bytes3,int16)"), true, true, true, true, true, false);
+        final Keccak keccak = new Keccak(256);
+        final byte[][] refTopics = ref.encodeTopics(Tuple.from("hello", new byte[] { 1, 2, 3 }, new int[] { 7, 255 }, Tuple.of("x".repeat(33), new byte[] { 9, 9, 9 }), new byte[] { 4, 5, 6 }), keccak);
+        assertEquals(5, refTopics.length);
+        assertArrayEquals(keccak.digest(Strings.decode("hello", Strings.UTF_8)), refTopics[0]);
+        assertArrayEquals(keccak.digest(new byte[] { 1, 2, 3 }), refTopics[1]);
+        final byte[] uint8s = new byte[64];
+        uint8s[31] = 7;
+        uint8s[63] = (byte) 255;
+        assertArrayEquals(keccak.digest(uint8s), refTopics[2]);
+        final byte[] struct = new byte[96];
+        Arrays.fill(struct, 0, 33, (byte) 'x');
+        struct[64] = struct[65] = struct[66] = 9;
+        assertArrayEquals(keccak.digest(struct), refTopics[3]);
+        assertEquals("0405060000000000000000000000000000000000000000000000000000000000", FastHex.encodeToString(refTopics[4]));
+        assertArrayEquals(ref.encodeTopics(Tuple.from("hello", new byte[] { 1, 2, 3 }, new int[] { 7, 255 }, Tuple.of("x".repeat(33), new byte[] { 9, 9, 9 }), new byte[] { 4, 5, 6 })), refTopics);
+
+        assertThrown(IllegalArgumentException.class, "tuple length mismatch: expected length 2 but found 1", () -> transfer.encodeTopics(Single.of(from)));
+        assertThrown(IllegalArgumentException.class, "expected 2 indexed values but found 1", () -> transfer.topicFilter(from));
+
+        final TopicFilter any = transfer.topicFilter(null, null);
+        final TopicFilter toOnly = transfer.topicFilter(null, to);
+        final TopicFilter fromOnly = transfer.topicFilter(to, null);
+        assertEquals(3, any.size());
+        assertTrue(any.matches(topics));
+        assertTrue(toOnly.matches(topics));
+        assertFalse(fromOnly.matches(topics));
+        assertFalse(any.matches(new byte[][] { topics[1], topics[0], topics[2] }));
+        assertFalse(toOnly.matches(Arrays.copyOf(topics, 2)));
+        assertTrue(any.matches(Arrays.copyOf(topics, 1)));
+        assertEquals(toOnly, TopicFilter.of(new byte[][] { topics[0] }, null, new byte[][] { topics[2] }));
+        assertTrue(TopicFilter.of(null, new byte[][] { topics[2], topics[1] }).matches(topics));
+        assertThrown(IllegalArgumentException.class, "topic length must be 32 but found 31", () -> TopicFilter.of(new byte[][] { new byte[31] }));
+    }
+
+    @Test
+    public void testDecodeArgsIndices() throws Throwable {
+        final Event<?> swap = Event.create("Swap", TupleType.parse("(address,uint256,bytes,int256,address,string)"), true, false, false, false, true, false);
+        final Address sender = new Address(BigInteger.valueOf(0x5e1dL));
+        final Address to = new Address(BigInteger.valueOf(0x70L));
+        final byte[] payload = new byte[1000];
+        final Tuple args = Tuple.from(sender, BigInteger.valueOf(123L), payload, BigInteger.valueOf(-456L), to, "memo");
+        final byte[][] topics = swap.encodeTopics(Tuple.of(sender, to));
+        final byte[] data = swap.encodeData(Tuple.of(BigInteger.valueOf(123L), payload, BigInteger.valueOf(-456L), "memo"));
+        assertEquals(args, swap.decodeArgs(topics, data));
+
+        assertEquals(BigInteger.valueOf(-456L), swap.<BigInteger>decodeArgs(topics, data, 3));
+        assertEquals(to, swap.<Address>decodeArgs(topics, data, 4));
+        assertEquals("memo", swap.<String>decodeArgs(topics, data, 5));
+
+        final Tuple partial = swap.decodeArgs(topics, data, 0, 1, 3);
+        assertEquals(6, partial.size());
+        assertEquals(sender, partial.get(0));
+        assertEquals(BigInteger.valueOf(123L), partial.get(1));
+        assertEquals(BigInteger.valueOf(-456L), partial.get(3));
+        assertThrown(NoSuchElementException.class, "2", () -> partial.get(2));
+        final Tuple topicsOnly = swap.decodeArgs(topics, null, 0, 4);
+        assertEquals(to, topicsOnly.get(4));
+        final Tuple one = swap.decodeArgs(topics, data, 1, 2);
+        assertArrayEquals(payload, one.get(2));
+
+        assertThrown(IllegalArgumentException.class, "index out of order: 1", () -> swap.decodeArgs(topics, data, 3, 1));
+        assertThrown(IndexOutOfBoundsException.class, () -> swap.decodeArgs(topics, data, 6));
+        assertThrown(IllegalArgumentException.class, "unexpected topics[0]", () -> swap.decodeArgs(new byte[][] { topics[1], topics[1], topics[2] }, data, 1));
+    }
 }
@@ -0,0 +1,210 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class LogFilterEngineTest {
+
+    @Test
+    public void testAgainstLinearScan() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Address[] addressPool = new Address[6];
+        for (int i = 0; i < addressPool.length; i++) {
+            addressPool[i] = new Address(new BigInteger(160, r));
+        }
+        final byte[][] topicPool = new byte[8][];
+        for (int i = 0; i < topicPool.length; i++) {
+            topicPool[i] = TestUtils.randomBytes(32, r);
+        }
+        final LogFilterEngine.Builder builder = LogFilterEngine.builder();
+        final List<List<Address>> subAddresses = new ArrayList<>();
+        final List<List<List<byte[]>>> subTopics = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            final List<Address> addresses = new ArrayList<>();
+            for (int j = r.nextInt(3); j > 0; j--) {
+                addresses.add(addressPool[r.nextInt(addressPool.length)]);
+            }
+            final List<List<byte[]>> topics = new ArrayList<>();
+            for (int p = r.nextInt(5); p > 0; p--) {
+                final List<byte[]> alternatives = r.nextInt(3) == 0 ? null : new ArrayList<>();
+                for (int k = alternatives == null ? 0 : r.nextInt(3); k > 0; k--) {
+                    alternatives.add(topicPool[r.nextInt(topicPool.length)]);
+                }
+                topics.add(alternatives);
+            }
+            builder.subscribe(id, addresses, topics);
+            subAddresses.add(addresses);
+            subTopics.add(topics);
+        }
+        final LogFilterEngine engine = builder.build();
+        assertEquals(500, engine.size());
+
+        for (int i = 0; i < 2000; i++) {
+            final Address address = addressPool[r.nextInt(addressPool.length)];
+            final byte[][] topics = new byte[r.nextInt(5)][];
+            for (int t = 0; t < topics.length; t++) {
+                topics[t] = topicPool[r.nextInt(topicPool.length)];
+            }
+            final List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < subAddresses.size(); id++) {
+                if (matches(subAddresses.get(id), subTopics.get(id), address, topics)) {
+                    expected.add(id);
+                }
+            }
+            final int[] actual = engine.match(address, topics);
+            Arrays.sort(actual);
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual);
+            final int[] count = new int[1];
+            assertEquals(actual.length, engine.dispatch(address, topics, new byte[0], (id, args) -> {
+                assertNull(args);
+                count[0]++;
+            }));
+            assertEquals(actual.length, count[0]);
+        }
+
+        assertThrown(IllegalArgumentException.class, "duplicate subscription id: 7", () -> builder.subscribe(7, List.of(), List.of()));
+        assertThrown(IllegalArgumentException.class, "too many topic positions: 5 > 4", () -> builder.subscribe(-1, List.of(), Collections.nCopies(5, null)));
+        assertThrown(IllegalArgumentException.class, "topic length must be 32 but found 31", () -> builder.subscribe(-2, List.of(), List.of(List.of(new byte[31]))));
+        assertThrown(IllegalArgumentException.class, "too many topics: 5 > 4", () -> engine.match(addressPool[0], new byte[5][32]));
+    }
+
+    /* the eth_getLogs semantics */
+    private static boolean matches(List<Address> addresses, List<List<byte[]>> filter, Address address, byte[][] topics) {
+        if (!addresses.isEmpty() && !addresses.contains(address)) {
+            return false;
+        }
+        for (int p = 0; p < filter.size(); p++) {
+            final List<byte[]> alternatives = filter.get(p);
+            if (alternatives == null || alternatives.isEmpty()) {
+                continue;
+            }
+            if (p >= topics.length) {
+                return false;
+            }
+            boolean any = false;
+            for (byte[] alt : alternatives) {
+                any |= Arrays.equals(alt, topics[p]);
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void testDispatchDecodesOnce() {
+        final Event<?> transfer = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final Event<?> transferCopy = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final Address token = new Address(new BigInteger("a0b86991c6218b36c1d19d4a2e9eb0ce3606eb48", 16));
+        final Address from = new Address(BigInteger.valueOf(0xf00L));
+        final Address to = new Address(BigInteger.valueOf(0xba5L));
+        final byte[] fromTopic = AddressType.INSTANCE.encode(from).array();
+        final byte[] toTopic = AddressType.INSTANCE.encode(to).array();
+
+        final LogFilterEngine engine = LogFilterEngine.builder()
+                .subscribe(1, List.of(token), transfer, List.of())
+                .subscribe(2, List.of(), transferCopy, Arrays.asList(null, List.of(toTopic)))
+                .subscribe(3, List.of(token), List.of(List.of(transfer.signatureHash()), List.of(fromTopic)))
+                .subscribe(4, List.of(token), transfer, Arrays.asList(List.of(toTopic)))
+                .build();
+
+        final byte[][] topics = { transfer.signatureHash(), fromTopic, toTopic };
+        final byte[] data = Function.parse("f(uint256)").getInputs().encode(Single.of(BigInteger.valueOf(1000L))).array();
+        final Map<Integer, Tuple> received = new HashMap<>();
+        assertEquals(3, engine.dispatch(token, topics, data, received::put));
+        assertEquals(3, received.size());
+        final Tuple args = received.get(1);
+        assertEquals(Tuple.of(from, to, BigInteger.valueOf(1000L)), args);
+        assertSame(args, received.get(2));
+        assertNull(received.get(3));
+
+        received.clear();
+        assertEquals(1, engine.dispatch(new Address(BigInteger.ONE), topics, data, received::put));
+        assertEquals(args, received.get(2));
+    }
+
+    @Test
+    public void testDispatchSharedTopic0() {
+        final Event<?> erc20 = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, false);
+        final Event<?> erc721 = Event.create("Transfer", TupleType.parse("(address,address,uint256)"), true, true, true);
+        assertArrayEquals(erc20.signatureHash(), erc721.signatureHash());
+        final Address from = new Address(BigInteger.valueOf(0xf00L));
+        final Address to = new Address(BigInteger.valueOf(0xba5L));
+        final byte[] fromTopic = AddressType.INSTANCE.encode(from).array();
+        final byte[] toTopic = AddressType.INSTANCE.encode(to).array();
+        final BigInteger amount = BigInteger.valueOf(77L);
+        final byte[] amountWord = Function.parse("f(uint256)").getInputs().encode(Single.of(amount)).array();
+
+        final LogFilterEngine engine = LogFilterEngine.builder()
+                .subscribe(20, List.of(), erc20, List.of())
+                .subscribe(721, List.of(), erc721, List.of())
+                .subscribe(0, List.of(), List.of(List.of(erc20.signatureHash())))
+                .build();
+        final Address token = new Address(BigInteger.TEN);
+        final Map<Integer, Tuple> received = new HashMap<>();
+
+        final byte[][] nftTopics = { erc721.signatureHash(), fromTopic, toTopic, amountWord };
+        assertArrayEquals(new int[] { 0, 721 }, sorted(engine.match(token, nftTopics)));
+        assertEquals(2, engine.dispatch(token, nftTopics, new byte[0], received::put));
+        assertEquals(Tuple.of(from, to, amount), received.get(721));
+        assertEquals(Collections.singleton(0), keysWithNullArgs(received));
+
+        received.clear();
+        final byte[][] tokenTopics = { erc20.signatureHash(), fromTopic, toTopic };
+        assertArrayEquals(new int[] { 0, 20 }, sorted(engine.match(token, tokenTopics)));
+        assertEquals(2, engine.dispatch(token, tokenTopics, amountWord, received::put));
+        assertEquals(Tuple.of(from, to, amount), received.get(20));
+
+        received.clear();
+        assertEquals(1, engine.dispatch(token, tokenTopics, new byte[31], received::put)); // malformed data
+        assertEquals(Collections.singleton(0), received.keySet());
+    }
+
+    private static int[] sorted(int[] ids) {
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static Set<Integer> keysWithNullArgs(Map<Integer, Tuple> received) {
+        final Set<Integer> keys = new HashSet<>();
+        received.forEach((id, args) -> {
+            if (args == null) {
+                keys.add(id);
+            }
+        });
+        return keys;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.abi;
+
+import com.esaulpaugh.headlong.util.FastHex;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RevertDecoderTest {
+
+    private static final String ERRORS_JSON = "[" +
+            "{\"type\":\"error\",\"name\":\"InsufficientBalance\",\"inputs\":[{\"name\":\"available\",\"type\":\"uint256\"},{\"name\":\"required\",\"type\":\"uint256\"}]}," +
+            "{\"type\":\"error\",\"name\":\"Unauthorized\",\"inputs\":[]}," +
+            "{\"type\":\"error\",\"name\":\"Error\",\"inputs\":[{\"name\":\"message\",\"type\":\"string\"}]}" +
+            "]";
+
+    @Test
+    public void testDispatch() throws Throwable {
+        final RevertDecoder decoder = new RevertDecoder(ABIJSON.parseErrors(ERRORS_JSON));
+        assertEquals(4, decoder.size()); // Error(string) is built in
+
+        // revert("Not enough Ether provided.")
+        final RevertDecoder.Revert error = decoder.decode(FastHex.decode(
+                "08c379a0"
+                + "0000000000000000000000000000000000000000000000000000000000000020"
+                + "000000000000000000000000000000000000000000000000000000000000001a"
+                + "4e6f7420656e6f7567682045746865722070726f76696465642e000000000000"));
+        assertEquals(RevertDecoder.Kind.ERROR, error.kind());
+        assertEquals(0x08c379a0, error.selector());
+        assertSame(RevertDecoder.ERROR, error.error());
+        assertEquals("Not enough Ether provided.", error.reason());
+        assertNull(error.panicCode());
+
+        final RevertDecoder.Revert panic = decoder.decode(RevertDecoder.PANIC.function().encodeCall(Single.of(BigInteger.valueOf(0x11))));
+        assertEquals(RevertDecoder.Kind.PANIC, panic.kind());
+        assertEquals(0x4e487b71, panic.selector());
+        assertEquals(BigInteger.valueOf(0x11), panic.panicCode());
+        assertEquals("arithmetic overflow or underflow", panic.panicDescription());
+        assertEquals("Panic(0x11: arithmetic overflow or underflow)", panic.toString());
+        assertNull(panic.reason());
+        assertNull(RevertDecoder.panicDescription(BigInteger.valueOf(0x13)));
+        assertNull(RevertDecoder.panicDescription(BigInteger.valueOf(0x111)));
+
+        final ContractError<?> insufficient = ABIJSON.parseErrors(ERRORS_JSON).get(0);
+        final ByteBuffer call = insufficient.function().encodeCall(Tuple.of(BigInteger.ONE, BigInteger.TEN));
+        final ByteBuffer withPrefix = ByteBuffer.allocate(call.limit() + 3);
+        withPrefix.position(3);
+        withPrefix.put(call).position(3);
+        final RevertDecoder.Revert custom = decoder.decode(withPrefix);
+        assertEquals(RevertDecoder.Kind.CUSTOM, custom.kind());
+        assertEquals(insufficient, custom.error());
+        assertEquals(Tuple.of(BigInteger.ONE, BigInteger.TEN), custom.args());
+        assertSame(custom.args(), custom.args());
+        assertEquals(3, withPrefix.position());
+        assertEquals("InsufficientBalance[1, 10]", custom.toString());
+
+        final RevertDecoder.Revert unauthorized = decoder.decode(FastHex.decode("82b42900"));
+        assertEquals(RevertDecoder.Kind.CUSTOM, unauthorized.kind());
+        assertEquals(Tuple.EMPTY, unauthorized.args());
+
+        final RevertDecoder.Revert unknown = decoder.decode(FastHex.decode("deadbeef00"));
+        assertEquals(RevertDecoder.Kind.UNKNOWN, unknown.kind());
+        assertEquals(0xdeadbeef, unknown.selector());
+        assertNull(unknown.error());
+        assertNull(unknown.args());
+        assertEquals("UNKNOWN 0xdeadbeef", unknown.toString());
+
+        assertEquals(RevertDecoder.Kind.EMPTY, decoder.decode(new byte[0]).kind());
+        assertEquals("EMPTY", decoder.decode(new byte[0]).toString());
+        final RevertDecoder.Revert partial = decoder.decode(FastHex.decode("4e487b"));
+        assertEquals(RevertDecoder.Kind.UNKNOWN, partial.kind());
+        assertEquals(0, partial.selector());
+        assertNull(partial.args());
+        assertEquals("UNKNOWN 0x4e487b", partial.toString());
+
+        final RevertDecoder.Revert truncated = decoder.decode(FastHex.decode("4e487b71"));
+        assertEquals(RevertDecoder.Kind.PANIC, truncated.kind());
+        assertThrown(BufferUnderflowException.class, truncated::args);
+        assertEquals("Panic 0x4e487b71 (malformed)", truncated.toString());
+        final RevertDecoder.Revert badError = decoder.decode(FastHex.decode("08c379a0" + "00000000000000000000000000000000000000000000000000000000000000ff"));
+        assertEquals(RevertDecoder.Kind.ERROR, badError.kind());
+        assertEquals("Error 0x08c379a0 (malformed)", badError.toString());
+
+        assertEquals(2, new RevertDecoder(List.of(RevertDecoder.PANIC, RevertDecoder.ERROR)).size());
+    }
+}
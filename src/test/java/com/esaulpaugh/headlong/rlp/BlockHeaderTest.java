@@ -0,0 +1,132 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockHeaderTest {
+
+    private static List<Object> genesisFields() {
+        final List<Object> fields = new ArrayList<>();
+        fields.add(new byte[32]);
+        fields.add(FastHex.decode("1dcc4de8dec75d7aab85b567b6ccd41ad312451b948a7413f0a142fd40d49347"));
+        fields.add(new byte[20]);
+        fields.add(FastHex.decode("d7f8974fb5ac78d9ac099b9ad5018bedc2ce0a72dad1827a1709da30580f0544"));
+        fields.add(TrieRootBuilder.EMPTY_ROOT);
+        fields.add(TrieRootBuilder.EMPTY_ROOT);
+        fields.add(new byte[256]);
+        fields.add(Integers.toBytes(0x400000000L));
+        fields.add(Integers.toBytes(0L));
+        fields.add(Integers.toBytes(5000L));
+        fields.add(Integers.toBytes(0L));
+        fields.add(Integers.toBytes(0L));
+        fields.add(FastHex.decode("11bbe8db4e347b4e8c937c1c8370e4b5ed33adb3db69cbdb7a38e1e50b1b82fa"));
+        fields.add(new byte[32]);
+        fields.add(FastHex.decode("0000000000000042"));
+        return fields;
+    }
+
+    @Test
+    public void testGenesis() {
+        final BlockHeader genesis = BlockHeader.wrap(RLPEncoder.list(genesisFields()));
+        assertEquals("d4e56740f876aef8c010b86a40d5f56745a118d0906a34e69aec8c0db1cb8fa3", FastHex.encodeToString(genesis.hash()));
+        assertEquals(BlockHeader.MIN_FIELDS, genesis.fieldCount());
+        assertEquals(0L, genesis.number());
+        assertEquals(5000L, genesis.gasLimit());
+        assertEquals(BigInteger.valueOf(0x400000000L), genesis.difficulty());
+        assertArrayEquals(TrieRootBuilder.EMPTY_ROOT, genesis.transactionsRoot());
+        assertEquals("0000000000000042", FastHex.encodeToString(genesis.nonce()));
+        assertNull(genesis.baseFeePerGas());
+        assertNull(genesis.withdrawalsRoot());
+        assertEquals(-1L, genesis.blobGasUsed());
+        assertEquals(-1L, genesis.excessBlobGas());
+        assertNull(genesis.parentBeaconBlockRoot());
+        assertNull(genesis.requestsHash());
+        assertNotSame(genesis.hash(), genesis.hash());
+
+        final List<Object> child = genesisFields();
+        child.set(0, genesis.hash());
+        child.set(8, Integers.toBytes(1L));
+        final BlockHeader one = BlockHeader.wrap(RLPEncoder.list(child));
+        assertTrue(genesis.isParentOf(one));
+        assertFalse(one.isParentOf(genesis));
+        assertFalse(genesis.isParentOf(genesis));
+    }
+
+    @Test
+    public void testForks() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        for (int n = BlockHeader.MIN_FIELDS; n <= BlockHeader.MAX_FIELDS; n++) {
+            final List<Object> fields = genesisFields();
+            final long number = r.nextLong() >>> 1;
+            fields.set(8, Integers.toBytes(number));
+            final byte[] extra = TestUtils.randomBytes(r.nextInt(33), r);
+            fields.set(12, extra);
+            final BigInteger baseFee = new BigInteger(64, r);
+            final byte[] withdrawalsRoot = TestUtils.randomBytes(32, r);
+            final long blobGasUsed = r.nextInt(1 << 20);
+            final long excessBlobGas = r.nextInt(1 << 24);
+            final byte[] beaconRoot = TestUtils.randomBytes(32, r);
+            final byte[] requestsHash = TestUtils.randomBytes(32, r);
+            final List<Object> optional = List.of(Integers.toBytesUnsigned(baseFee), withdrawalsRoot, Integers.toBytes(blobGasUsed), Integers.toBytes(excessBlobGas), beaconRoot, requestsHash);
+            fields.addAll(optional.subList(0, n - BlockHeader.MIN_FIELDS));
+            final byte[] encoding = RLPEncoder.list(fields);
+            final byte[] padded = new byte[encoding.length + 5];
+            System.arraycopy(encoding, 0, padded, 5, encoding.length);
+
+            final BlockHeader header = BlockHeader.wrap(RLPDecoder.RLP_STRICT.wrapList(padded, 5));
+            assertEquals(n, header.fieldCount());
+            assertArrayEquals(new Keccak(256).digest(encoding), header.hash());
+            assertEquals(number, header.number());
+            assertArrayEquals(extra, header.extraData());
+            assertEquals(n > 15 ? baseFee : null, header.baseFeePerGas());
+            assertArrayEquals(n > 16 ? withdrawalsRoot : null, header.withdrawalsRoot());
+            assertEquals(n > 17 ? blobGasUsed : -1L, header.blobGasUsed());
+            assertEquals(n > 18 ? excessBlobGas : -1L, header.excessBlobGas());
+            assertArrayEquals(n > 19 ? beaconRoot : null, header.parentBeaconBlockRoot());
+            assertArrayEquals(n > 20 ? requestsHash : null, header.requestsHash());
+            assertEquals(header.list().get(12), header.field(12));
+        }
+
+        final List<Object> fields = genesisFields();
+        fields.remove(14);
+        assertThrown(IllegalArgumentException.class, "too few fields: 14 < 15", () -> BlockHeader.wrap(RLPEncoder.list(fields)));
+        fields.add(new byte[7]);
+        assertThrown(IllegalArgumentException.class, "field 14: expected 8 bytes, found 7", () -> BlockHeader.wrap(RLPEncoder.list(fields)));
+        fields.set(14, new byte[8]);
+        fields.addAll(List.of(new byte[0], new byte[32], new byte[0], new byte[0], new byte[32], new byte[32], new byte[0]));
+        assertThrown(IllegalArgumentException.class, "too many fields: > 21", () -> BlockHeader.wrap(RLPEncoder.list(fields)));
+        fields.set(9, List.of());
+        assertThrown(IllegalArgumentException.class, "field 9: expected string @ ", () -> BlockHeader.wrap(RLPEncoder.list(fields)));
+    }
+}
@@ -32,9 +32,11 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.esaulpaugh.headlong.TestUtils.CustomRunnable;
 import static com.esaulpaugh.headlong.TestUtils.assertThrown;
@@ -872,4 +874,296 @@ public class RLPDecoderTest {
         RLPString s = RLP_STRICT.wrapBits(0x70);
         list = RLP_STRICT.wrapBits(0xc1ff);
     }
+
+    @Test
+    public void testByteBufferItems() throws Throwable {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(LONG_LIST_BYTES.length + 3);
+        direct.put(new byte[3]).put(LONG_LIST_BYTES).flip().position(3);
+        final RLPBufferItem bufItem = RLP_LENIENT.wrap(direct);
+        final RLPList list = RLP_LENIENT.wrapList(LONG_LIST_BYTES);
+        assertEquals(3, bufItem.index);
+        assertEquals(list.dataLength, bufItem.dataLength);
+        assertTrue(bufItem.isList());
+        assertEquals(list, bufItem.toItem());
+        assertEquals(list.toString(), bufItem.toString());
+        assertEquals(3, direct.position());
+
+        final Iterator<RLPBufferItem> bufIter = bufItem.iterator(RLP_LENIENT);
+        for (RLPItem e : list.elements(RLP_LENIENT)) {
+            final RLPBufferItem b = bufIter.next();
+            assertEquals(e.type(), b.type());
+            assertEquals(e.dataLength, b.dataLength);
+            assertEquals(e.encodingLength(), b.encodingLength());
+            assertArrayEquals(e.data(), b.data());
+            assertEquals(ByteBuffer.wrap(e.data()), b.dataSlice());
+            assertEquals(ByteBuffer.wrap(e.encoding()), b.encodingSlice());
+            if (e.isString() && e.dataLength <= Long.BYTES) {
+                assertEquals(e.asLong(true), b.asLong(true));
+                assertEquals(e.asBigInt(true), b.asBigInt(true));
+            }
+        }
+        assertFalse(bufIter.hasNext());
+        assertThrown(NoSuchElementException.class, bufIter::next);
+
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 0", () -> RLP_STRICT.wrap(ByteBuffer.wrap(new byte[] { (byte) 0x81, 0x00 })));
+        assertThrown(IllegalArgumentException.class, "deserialized integers with leading zeroes are invalid; index: 1, len: 2", () -> RLP_STRICT.wrap(ByteBuffer.wrap(new byte[] { (byte) 0x82, 0x00, 0x01 })).asLong());
+        assertThrown(ShortInputException.class, "element @ index 0 exceeds its container: 2 > 1", () -> RLP_STRICT.wrap(ByteBuffer.wrap(new byte[] { (byte) 0xc1 })));
+        final ByteBuffer bad = ByteBuffer.wrap(new byte[] { (byte) 0xc1, (byte) 0x81, (byte) 0x00 });
+        assertThrown(IllegalArgumentException.class, "element @ index 1 exceeds its container: 3 > 2", () -> RLP_STRICT.wrap(bad).iterator(RLP_STRICT).next());
+        assertThrown(IllegalArgumentException.class, "long element data length must be 56 or greater; found: 55 for element @ 0", () -> RLP_LENIENT.wrap(ByteBuffer.wrap(new byte[] { (byte) 0xb8, 55 })));
+
+        final byte[] seq = RLPEncoder.sequence(new byte[] { 0x09 }, new byte[0], new Object[] { new byte[60] });
+        final Iterator<RLPItem> expected = RLP_STRICT.sequenceIterator(seq);
+        final Iterator<RLPBufferItem> actual = RLP_STRICT.sequenceIterator(ByteBuffer.wrap(seq));
+        while (expected.hasNext()) {
+            assertEquals(expected.next(), actual.next().toItem());
+        }
+        assertFalse(actual.hasNext());
+    }
+
+    @Test
+    public void testCursor() throws Throwable {
+        final RLPCursor c = RLP_LENIENT.cursor(LONG_LIST_BYTES);
+        assertFalse(c.hasItem());
+        assertTrue(c.next());
+        assertEquals(0, c.depth());
+        compareCursor(RLP_LENIENT.wrapList(LONG_LIST_BYTES), c);
+        assertFalse(c.next());
+        assertThrown(IllegalStateException.class, "no current item", c::asLong);
+        assertThrown(IllegalStateException.class, "already at top level", c::exit);
+
+        final RLPCursor strict = RLP_STRICT.cursor(LONG_LIST_BYTES);
+        strict.next();
+        strict.enter();
+        strict.next();
+        strict.enter();
+        strict.next();
+        strict.enter();
+        assertTrue(strict.next());
+        assertEquals(4, strict.index());
+        strict.exit();
+        strict.exit();
+        assertEquals(1, strict.depth());
+        assertEquals(2, strict.index());
+        assertTrue(strict.next());
+        assertEquals(DataType.STRING_LONG, strict.type());
+        assertThrown(IllegalStateException.class, "current item is not a list", strict::enter);
+
+        final RLPCursor invalid = RLP_STRICT.cursor(new byte[] { (byte) 0xc2, (byte) 0x81, 0x00 });
+        invalid.next();
+        invalid.enter();
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 1", invalid::next);
+        invalid.reset(new byte[] { (byte) 0xc2, (byte) 0x81, (byte) 0x80 }, 0, 3);
+        invalid.next();
+        invalid.enter();
+        assertTrue(invalid.next());
+        assertEquals(0x80, invalid.asInt());
+
+        final Random r = TestUtils.seededRandom();
+        final byte[] buffer = new byte[56];
+        for (int i = 0; i < 10_000; i++) {
+            r.nextBytes(buffer);
+            for (RLPDecoder decoder : new RLPDecoder[] { RLP_STRICT, RLP_LENIENT }) {
+                String expected;
+                try {
+                    expected = decoder.wrap(buffer).toString();
+                } catch (IllegalArgumentException iae) {
+                    expected = iae.getClass().getName() + iae.getMessage();
+                }
+                String actual;
+                try {
+                    final RLPCursor cursor = decoder.cursor(buffer);
+                    cursor.next();
+                    actual = cursor.item().toString();
+                } catch (IllegalArgumentException iae) {
+                    actual = iae.getClass().getName() + iae.getMessage();
+                }
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    private static void compareCursor(RLPItem expected, RLPCursor c) {
+        assertEquals(expected.type(), c.type());
+        assertEquals(expected.index, c.index());
+        assertEquals(expected.dataIndex, c.dataIndex());
+        assertEquals(expected.dataLength, c.dataLength());
+        assertEquals(expected.endIndex, c.endIndex());
+        assertEquals(expected, c.item());
+        final byte[] data = new byte[c.dataLength()];
+        assertEquals(data.length, c.copyData(data, 0));
+        assertArrayEquals(expected.data(), data);
+        if (expected.isList()) {
+            final int depth = c.depth();
+            c.enter();
+            assertEquals(depth + 1, c.depth());
+            for (RLPItem e : expected.asRLPList().elements(RLP_LENIENT)) {
+                assertTrue(c.next());
+                compareCursor(e, c);
+            }
+            assertFalse(c.next());
+            c.exit();
+            assertEquals(depth, c.depth());
+            assertEquals(expected.index, c.index());
+        } else if (expected.dataLength <= Long.BYTES) {
+            assertEquals(expected.asLong(true), c.asLong(true));
+        }
+    }
+
+    @Test
+    public void testRandomAccess() throws Throwable {
+        final RLPList list = RLP_LENIENT.wrapList(LONG_LIST_BYTES);
+        final List<RLPItem> elements = list.elements(RLP_LENIENT);
+        assertEquals(elements.size(), list.buildIndex(RLP_LENIENT));
+        assertEquals(elements.size(), list.size());
+        for (int i = elements.size() - 1; i >= 0; i--) {
+            assertEquals(elements.get(i), list.get(RLP_LENIENT, i));
+        }
+        assertThrown(IndexOutOfBoundsException.class, () -> list.get(RLP_LENIENT, elements.size()));
+        assertThrown(IndexOutOfBoundsException.class, () -> list.get(-1));
+
+        final RLPList lenientOnly = RLP_LENIENT.wrapList(new byte[] { (byte) 0xc2, (byte) 0x81, 0x00 });
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 1", lenientOnly::size);
+        assertEquals(1, lenientOnly.buildIndex(RLP_LENIENT));
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 1", () -> lenientOnly.get(0));
+        assertEquals(0, lenientOnly.get(RLP_LENIENT, 0).asInt(true));
+
+        final RLPList empty = RLP_STRICT.wrapList(new byte[] { (byte) 0xc0 });
+        assertEquals(0, empty.size());
+        assertThrown(IndexOutOfBoundsException.class, () -> empty.get(0));
+
+        final Object[] raw = new Object[300];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = Integers.toBytes(i);
+        }
+        final RLPList big = RLP_STRICT.wrapList(RLPEncoder.list(raw));
+        assertEquals(raw.length, big.size());
+        assertEquals(299, big.get(299).asInt());
+        assertEquals(0, big.get(0).asInt());
+        assertEquals(128, big.get(128).asInt());
+    }
+
+    @Test
+    public void testParallelStream() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Object[] objects = new Object[5_000];
+        for (int i = 0; i < objects.length; i++) {
+            final byte[] str = new byte[r.nextInt(80)];
+            r.nextBytes(str);
+            objects[i] = r.nextBoolean() ? str : new Object[] { str, new Object[] { Integers.toBytes(i) } };
+        }
+        final byte[] seq = RLPEncoder.sequence(objects);
+        final List<RLPItem> expected = new ArrayList<>();
+        RLP_STRICT.sequenceIterator(seq).forEachRemaining(expected::add);
+
+        assertEquals(expected, RLP_STRICT.stream(seq).parallel().collect(Collectors.toList()));
+        assertEquals(expected, RLP_STRICT.stream(seq).collect(Collectors.toList()));
+
+        final Spliterator<RLPItem> spliterator = RLP_STRICT.spliterator(seq, 0, seq.length);
+        assertEquals(objects.length, spliterator.getExactSizeIfKnown());
+        final Spliterator<RLPItem> firstHalf = spliterator.trySplit();
+        assertEquals(objects.length / 2, firstHalf.estimateSize());
+        assertEquals(objects.length - objects.length / 2, spliterator.estimateSize());
+        firstHalf.tryAdvance(item -> assertEquals(expected.get(0), item));
+        spliterator.tryAdvance(item -> assertEquals(expected.get(objects.length / 2), item));
+
+        final int end = expected.get(100).index;
+        assertEquals(expected.subList(10, 100), RLP_STRICT.stream(seq, expected.get(10).index, end).parallel().collect(Collectors.toList()));
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(seq.length).put(seq).flip();
+        assertEquals(
+                expected.stream().map(RLPItem::toString).collect(Collectors.toList()),
+                RLP_STRICT.stream(direct).parallel().map(RLPBufferItem::toString).collect(Collectors.toList())
+        );
+        assertEquals(0, direct.position());
+
+        final byte[] truncated = Arrays.copyOf(seq, seq.length - 1);
+        final Stream<RLPItem> lazy = RLP_STRICT.stream(truncated).parallel();
+        assertThrown(ShortInputException.class, "exceeds its container", lazy::count);
+    }
+
+    @Test
+    public void testValidate() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        for (int i = 0; i < 200; i++) {
+            final byte[] seq = RLPEncoder.sequence(randomTree(r, 4), new byte[r.nextInt(70)], randomTree(r, 3));
+            final int count = countItems(RLP_STRICT.sequenceIterator(seq));
+            assertEquals(count, RLP_STRICT.validate(seq, 0, seq.length));
+            assertEquals(count, RLP_LENIENT.validate(ByteBuffer.wrap(seq), 0, seq.length));
+            final byte[] padded = new byte[seq.length + 2];
+            System.arraycopy(seq, 0, padded, 1, seq.length);
+            assertEquals(count, RLP_STRICT.validate(padded, 1, seq.length));
+        }
+
+        assertEquals(0, RLP_STRICT.validate(new byte[0], 0, 0));
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 1", () -> RLP_STRICT.validate(new byte[] { (byte) 0xc2, (byte) 0x81, 0x00 }, 0, 3));
+        assertEquals(2, RLP_LENIENT.validate(new byte[] { (byte) 0xc2, (byte) 0x81, 0x00 }, 0, 3));
+        assertThrown(IllegalArgumentException.class, "exceeds its container", () -> RLP_STRICT.validate(new byte[] { (byte) 0xc2, (byte) 0x82, 0x00, 0x00 }, 0, 4));
+        assertThrown(ShortInputException.class, "exceeds its container", () -> RLP_STRICT.validate(new byte[] { (byte) 0xc2, 0x01 }, 0, 2));
+        assertThrown(IllegalArgumentException.class, "long element data length must be 56 or greater", () -> RLP_STRICT.validate(ByteBuffer.wrap(new byte[] { (byte) 0xb8, 0x01, 0x00 }), 0, 3));
+
+        final byte[] nested = RLPEncoder.list(new Object[] { new Object[] { new byte[] { 1, 2, 3 } } }, new byte[0]);
+        assertEquals(5, RLP_STRICT.validator(3, 5, 3).validate(nested, 0, nested.length));
+        assertThrown(IllegalArgumentException.class, "list @ 2 exceeds max depth: 2", () -> RLP_STRICT.validator(2, 5, 3).validate(nested, 0, nested.length));
+        assertThrown(IllegalArgumentException.class, "exceeds max items: 4", () -> RLP_STRICT.validator(3, 4, 3).validate(nested, 0, nested.length));
+        assertThrown(IllegalArgumentException.class, "string @ 3 exceeds max length: 3 > 2", () -> RLP_STRICT.validator(3, 5, 2).validate(ByteBuffer.wrap(nested), 0, nested.length));
+        assertThrown(IllegalArgumentException.class, "limits must be non-negative", () -> RLP_STRICT.validator(-1, 0, 0));
+    }
+
+    private static Object randomTree(Random r, int depth) {
+        final Object[] node = new Object[r.nextInt(4)];
+        for (int i = 0; i < node.length; i++) {
+            node[i] = depth > 0 && r.nextBoolean() ? randomTree(r, depth - 1) : new byte[r.nextInt(3) == 0 ? 1 : r.nextInt(60)];
+        }
+        return node;
+    }
+
+    private static int countItems(Iterator<RLPItem> iter) {
+        int count = 0;
+        while (iter.hasNext()) {
+            final RLPItem item = iter.next();
+            count++;
+            if (item.isList()) {
+                count += countItems(item.asRLPList().iterator());
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testBulkPrimitives() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final long[] longs = new long[100];
+        final Object[] encoded = new Object[longs.length];
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = r.nextLong() >>> r.nextInt(64);
+            encoded[i] = Integers.toBytes(longs[i]);
+        }
+        final RLPList list = RLP_STRICT.wrapList(RLPEncoder.list(encoded));
+        assertArrayEquals(longs, list.asLongArray());
+        final long[] consumed = new long[longs.length];
+        final int[] n = new int[1];
+        list.forEachLong(v -> consumed[n[0]++] = v);
+        assertArrayEquals(longs, consumed);
+        final byte[][] bytes = list.asBytesArray();
+        assertEquals(longs.length, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            assertArrayEquals((byte[]) encoded[i], bytes[i]);
+        }
+        list.buildIndex(RLP_STRICT);
+        assertArrayEquals(longs, list.asLongArray());
+
+        final RLPList ints = RLP_STRICT.wrapList(RLPEncoder.list(Integers.toBytes(-1), new byte[0], new byte[] { 0x7f }, Integers.toBytes(65_536)));
+        assertArrayEquals(new int[] { -1, 0, 0x7f, 65_536 }, ints.asIntArray());
+        assertEquals(0, RLP_STRICT.wrapList(new byte[] { (byte) 0xc0 }).asLongArray().length);
+        assertEquals(0, RLP_STRICT.wrapList(new byte[] { (byte) 0xc0 }).asBytesArray().length);
+
+        final byte[] leadingZero = RLPEncoder.list(new byte[] { 1 }, new byte[] { 0, 1 });
+        assertThrown(IllegalArgumentException.class, "deserialized integers with leading zeroes are invalid; index: 3, len: 2", () -> RLP_STRICT.wrapList(leadingZero).asLongArray());
+        assertArrayEquals(new long[] { 1L, 1L }, RLP_LENIENT.wrapList(leadingZero).asLongArray(RLP_LENIENT));
+        assertArrayEquals(new int[] { 1, 1 }, RLP_LENIENT.wrapList(leadingZero).asIntArray(RLP_LENIENT));
+        assertThrown(IllegalArgumentException.class, "expected string element @ 2", () -> RLP_STRICT.wrapList(RLPEncoder.list(new byte[] { 1 }, new Object[0])).asIntArray());
+        assertThrown(IllegalArgumentException.class, "len is out of range: 5", () -> RLP_STRICT.wrapList(RLPEncoder.list(new byte[] { 1, 2, 3, 4, 5 })).asIntArray());
+        assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 1", () -> RLP_LENIENT.wrapList(new byte[] { (byte) 0xc2, (byte) 0x81, 0x00 }).forEachLong(v -> {}));
+    }
 }
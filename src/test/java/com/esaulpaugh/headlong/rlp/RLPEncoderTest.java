@@ -21,9 +21,14 @@ import com.esaulpaugh.headlong.util.Integers;
 import com.esaulpaugh.headlong.util.Strings;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +43,8 @@ import static com.esaulpaugh.headlong.TestUtils.assertThrown;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RLPEncoderTest {
 
@@ -288,4 +295,218 @@ public class RLPEncoderTest {
         assertArrayEquals(new byte[] { 0, 0, (byte) 0x83, 0, 1, 2 }, dest);
         assertEquals(dest.length, idx);
     }
+
+    @Test
+    public void testDeepNesting() {
+        final Random r = TestUtils.seededRandom();
+        Object node = new byte[] { 0x05 };
+        for (int d = 0; d < 300; d++) {
+            final byte[] str = new byte[r.nextInt(60)];
+            r.nextBytes(str);
+            node = r.nextBoolean()
+                    ? new Object[] { str, node, new Object[] { new Object[0] } }
+                    : Arrays.asList(node, str);
+        }
+        final Object[] tree = new Object[] { node, new byte[] { (byte) 0x80 }, node };
+        final byte[] list = RLPEncoder.list(tree);
+        final byte[] sequence = RLPEncoder.sequence(tree);
+        assertEquals(Notation.forObjects((Object) tree), Notation.forEncoding(list));
+        assertEquals(Notation.forObjects(tree), Notation.forEncoding(sequence));
+
+        final ByteBuffer bb = ByteBuffer.allocate(list.length + sequence.length);
+        RLPEncoder.putList(Arrays.asList(tree), bb);
+        RLPEncoder.putSequence(Arrays.asList(tree), bb);
+        assertArrayEquals(list, Arrays.copyOfRange(bb.array(), 0, list.length));
+        assertArrayEquals(sequence, Arrays.copyOfRange(bb.array(), list.length, bb.capacity()));
+        assertArrayEquals(list, RLPEncoder.sequence((Object) tree));
+    }
+
+    @Test
+    public void testWriter() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final RLPWriter writer = new RLPWriter(0);
+        for (int i = 0; i < 50; i++) {
+            writer.reset();
+            final List<Object> expected = new ArrayList<>();
+            final List<List<Object>> stack = new ArrayList<>();
+            List<Object> current = expected;
+            for (int j = 0; j < 200; j++) {
+                final int op = r.nextInt(6);
+                if (op == 0) {
+                    writer.beginList();
+                    stack.add(current);
+                    current.add(current = new ArrayList<>());
+                } else if (op == 1 && !stack.isEmpty()) {
+                    writer.endList();
+                    current = stack.remove(stack.size() - 1);
+                } else if (op == 2) {
+                    final long val = r.nextLong() >>> r.nextInt(64);
+                    writer.writeLong(val);
+                    current.add(Integers.toBytes(val));
+                } else if (op == 3) {
+                    final BigInteger val = new BigInteger(r.nextInt(300), r);
+                    writer.writeBigInt(val);
+                    current.add(Integers.toBytesUnsigned(val));
+                } else {
+                    final byte[] str = new byte[r.nextBoolean() ? r.nextInt(3) : r.nextInt(100)];
+                    r.nextBytes(str);
+                    writer.writeString(str);
+                    current.add(str);
+                }
+            }
+            assertEquals(stack.size(), writer.depth());
+            if (!stack.isEmpty()) {
+                assertThrown(IllegalStateException.class, "unclosed lists: " + stack.size(), writer::toByteArray);
+            }
+            while (writer.depth() > 0) {
+                writer.endList();
+            }
+            final byte[] rlp = writer.toByteArray();
+            assertEquals(rlp.length, writer.size());
+            assertArrayEquals(RLPEncoder.sequence(expected), rlp);
+        }
+        assertThrown(IllegalStateException.class, "no open list", writer::endList);
+        assertThrown(IllegalArgumentException.class, "negative value: -1", () -> writer.writeBigInt(BigInteger.ONE.negate()));
+
+        final RLPItem item = RLPDecoder.RLP_STRICT.wrapItem(RLPEncoder.list(new byte[60], new byte[] { 0x7f }));
+        writer.reset();
+        assertArrayEquals(RLPEncoder.list(new byte[0], item.encoding(), new byte[] { (byte) 0x80 }),
+                writer.beginList()
+                        .writeLong(0L)
+                        .writeString(item.encoding())
+                        .writeString(new byte[] { 0, (byte) 0x80, 0 }, 1, 1)
+                        .endList()
+                        .toByteArray());
+        writer.reset();
+        assertArrayEquals(item.encoding(), writer.writeItem(item).toByteArray());
+    }
+
+    @Test
+    public void testCompositeList() throws Throwable {
+        final byte[] txs = RLPEncoder.sequence(new byte[] { 0x01 }, new byte[70], new Object[] { new byte[3] }, new byte[0]);
+        final List<RLPItem> elements = new ArrayList<>();
+        RLPDecoder.RLP_STRICT.sequenceIterator(txs).forEachRemaining(elements::add);
+        elements.add(RLPDecoder.RLP_STRICT.wrapItem(RLPEncoder.string(new byte[] { 0x02 })));
+        elements.add(elements.get(0));
+
+        final RLPCompositeList composite = RLPCompositeList.wrap(elements);
+        final RLPList expected = RLPList.wrap(elements);
+        assertEquals(elements.size(), composite.size());
+        assertEquals(expected.dataLength, composite.dataLength());
+        assertEquals(expected.encodingLength(), composite.encodingLength());
+        assertArrayEquals(Arrays.copyOf(expected.encoding(), expected.dataIndex - expected.index), composite.prefix());
+        assertArrayEquals(expected.encoding(), composite.encoding());
+        assertEquals(expected, composite.toList());
+        assertEquals(expected.toString(), composite.toString());
+
+        final ByteBuffer[] buffers = composite.buffers();
+        assertEquals(4, buffers.length); // prefix, the contiguous run from txs, then two single items
+        assertEquals(txs.length, buffers[1].remaining());
+        assertTrue(buffers[1].isReadOnly());
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final GatheringByteChannel channel = new GatheringByteChannel() {
+            final WritableByteChannel inner = Channels.newChannel(baos);
+            @Override
+            public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+                for (int i = offset; i < offset + length; i++) {
+                    if (srcs[i].hasRemaining()) {
+                        final ByteBuffer one = srcs[i].duplicate();
+                        one.limit(one.position() + 1);
+                        srcs[i].position(srcs[i].position() + 1);
+                        return inner.write(one); // one byte per call, to exercise partial writes
+                    }
+                }
+                return 0;
+            }
+            @Override
+            public long write(ByteBuffer[] srcs) throws IOException {
+                return write(srcs, 0, srcs.length);
+            }
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                return inner.write(src);
+            }
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+            @Override
+            public void close() {
+            }
+        };
+        assertEquals(expected.encodingLength(), composite.writeTo(channel));
+        assertArrayEquals(expected.encoding(), baos.toByteArray());
+
+        baos.reset();
+        composite.writeTo(baos);
+        assertArrayEquals(expected.encoding(), baos.toByteArray());
+
+        final RLPCompositeList empty = RLPCompositeList.wrap();
+        assertArrayEquals(new byte[] { (byte) 0xc0 }, empty.encoding());
+        assertEquals(1, empty.buffers().length);
+    }
+
+    record AccessListEntry(byte[] address, List<byte[]> storageKeys) {}
+
+    record Tx(long nonce, BigInteger gasPrice, int gasLimit, boolean create, String memo, List<AccessListEntry> accessList) {}
+
+    record Node(byte[] value, List<Node> children) {}
+
+    record Unsupported(double d) {}
+
+    @Test
+    public void testRecordCodec() throws Throwable {
+        final RLPRecordCodec<Tx> codec = RLPRecordCodec.of(Tx.class);
+        assertSame(codec, RLPRecordCodec.of(Tx.class));
+        final byte[] addr = new byte[20];
+        addr[19] = 0x7f;
+        final Tx tx = new Tx(-1L, BigInteger.TWO.pow(100), -2, true, "h\u00e9llo",
+                List.of(new AccessListEntry(addr, List.of(new byte[32], new byte[] { 1 })), new AccessListEntry(new byte[0], List.of())));
+        final byte[] rlp = codec.encode(tx);
+        final Object[] expected = new Object[] {
+                Integers.toBytes(-1L),
+                Integers.toBytesUnsigned(BigInteger.TWO.pow(100)),
+                Integers.toBytes(0xfffffffeL),
+                new byte[] { 1 },
+                Strings.decode("h\u00e9llo", Strings.UTF_8),
+                new Object[] {
+                        new Object[] { addr, new Object[] { new byte[32], new byte[] { 1 } } },
+                        new Object[] { new byte[0], new Object[0] }
+                }
+        };
+        assertArrayEquals(RLPEncoder.list(expected), rlp);
+
+        final Tx decoded = codec.decode(rlp);
+        assertEquals(tx.nonce(), decoded.nonce());
+        assertEquals(tx.gasPrice(), decoded.gasPrice());
+        assertEquals(tx.gasLimit(), decoded.gasLimit());
+        assertEquals(tx.create(), decoded.create());
+        assertEquals(tx.memo(), decoded.memo());
+        assertEquals(2, decoded.accessList().size());
+        assertArrayEquals(addr, decoded.accessList().get(0).address());
+        assertArrayEquals(new byte[] { 1 }, decoded.accessList().get(0).storageKeys().get(1));
+        assertArrayEquals(rlp, codec.encode(decoded));
+        assertArrayEquals(rlp, codec.encode(codec.decode(RLPDecoder.RLP_STRICT.wrapItem(rlp))));
+
+        final Node tree = new Node(new byte[] { 9 }, List.of(new Node(new byte[0], List.of()), new Node(new byte[] { 1, 2 }, List.of(new Node(new byte[3], List.of())))));
+        final RLPRecordCodec<Node> nodeCodec = RLPRecordCodec.of(Node.class);
+        final byte[] nodeRlp = nodeCodec.encode(tree);
+        assertArrayEquals(nodeRlp, nodeCodec.encode(nodeCodec.decode(nodeRlp)));
+
+        assertThrown(IllegalArgumentException.class, "unsupported type for component d: double", () -> RLPRecordCodec.of(Unsupported.class));
+        assertThrown(IllegalArgumentException.class, "Tx: expected list", () -> codec.decode(RLPEncoder.string(new byte[3])));
+        assertThrown(IllegalArgumentException.class, "Tx: missing element for accessList", () -> codec.decode(RLPEncoder.list(Arrays.copyOf(expected, 5))));
+        final Object[] extra = Arrays.copyOf(expected, 7);
+        extra[6] = new byte[0];
+        assertThrown(IllegalArgumentException.class, "Tx: trailing element @ ", () -> codec.decode(RLPEncoder.list(extra)));
+        final Object[] wrongKind = expected.clone();
+        wrongKind[0] = new Object[0];
+        assertThrown(IllegalArgumentException.class, "nonce: expected string @ 2", () -> codec.decode(RLPEncoder.list(wrongKind)));
+        final Object[] leadingZero = expected.clone();
+        leadingZero[2] = new byte[] { 0, 1 };
+        assertThrown(IllegalArgumentException.class, "deserialized integers with leading zeroes are invalid", () -> codec.decode(RLPEncoder.list(leadingZero)));
+        assertEquals(1, codec.decode(RLPDecoder.RLP_LENIENT, RLPEncoder.list(leadingZero), 0).gasLimit());
+        assertThrown(IllegalArgumentException.class, "null component: memo", () -> codec.encode(new Tx(0L, BigInteger.ONE, 0, false, null, List.of())));
+    }
 }
@@ -27,6 +27,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -34,9 +35,15 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static com.esaulpaugh.headlong.rlp.RLPDecoder.RLP_STRICT;
@@ -44,6 +51,7 @@ import static com.esaulpaugh.headlong.util.Strings.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RLPStreamTest {
@@ -399,4 +407,65 @@ public class RLPStreamTest {
             return Strings.encode(buf, 0, count, Strings.HEX);
         }
     }
+
+    @Test
+    public void testStreamDecoder() throws Throwable {
+        final List<RLPItem> expected = new ArrayList<>();
+        RLP_STRICT.sequenceIterator(RLP_BYTES).forEachRemaining(expected::add);
+
+        final Random r = TestUtils.seededRandom();
+        for (int maxChunk : new int[] { 1, 2, 7, 64, 1000 }) {
+            final List<RLPItem> actual = new ArrayList<>();
+            final RLPStreamDecoder decoder = new RLPStreamDecoder(RLP_STRICT, 58, actual::add);
+            int count = 0;
+            int i = 0;
+            while (i < RLP_BYTES.length) {
+                final int n = Math.min(RLP_BYTES.length - i, 1 + r.nextInt(maxChunk));
+                count += decoder.feed(ByteBuffer.wrap(RLP_BYTES, i, n));
+                i += n;
+            }
+            assertEquals(0, decoder.buffered());
+            assertEquals(expected.size(), count);
+            assertEquals(expected, actual);
+        }
+
+        final RLPStreamDecoder small = new RLPStreamDecoder(RLP_STRICT, 57, item -> {});
+        TestUtils.assertThrown(IllegalArgumentException.class, "item exceeds max size: 58 > 57", () -> small.feed(ByteBuffer.wrap(new byte[] { (byte) 0xb8, 56 })));
+
+        final RLPStreamDecoder partial = new RLPStreamDecoder(RLP_STRICT, 1 << 20, item -> {});
+        assertEquals(1, partial.feed(ByteBuffer.wrap(new byte[] { 0x01, (byte) 0xb9, 0x10 })));
+        assertEquals(2, partial.buffered());
+        assertEquals(0, partial.feed(ByteBuffer.wrap(new byte[] { 0x00 })));
+        assertEquals(0, partial.feed(ByteBuffer.allocate(0x1000 - 1)));
+        assertEquals(1, partial.feed(ByteBuffer.allocate(1)));
+        assertEquals(0, partial.buffered());
+        TestUtils.assertThrown(IllegalArgumentException.class, "invalid rlp for single byte @ 0", () -> partial.feed(ByteBuffer.wrap(new byte[] { (byte) 0x81, 0x00 })));
+    }
+
+    @Test
+    public void testStreamProcessor() throws Throwable {
+        final List<RLPItem> expected = new ArrayList<>();
+        RLP_STRICT.sequenceIterator(RLP_BYTES).forEachRemaining(expected::add);
+
+        final Flow.Processor<ByteBuffer, RLPItem> processor = RLPStreamDecoder.processor(RLP_STRICT, 1024);
+        final List<RLPItem> actual = Collections.synchronizedList(new ArrayList<>());
+        final CompletableFuture<Void> done = ((SubmissionPublisher<RLPItem>) processor).consume(actual::add);
+        try (SubmissionPublisher<ByteBuffer> source = new SubmissionPublisher<>()) {
+            source.subscribe(processor);
+            for (int i = 0; i < RLP_BYTES.length; i += 5) {
+                source.submit(ByteBuffer.wrap(RLP_BYTES, i, Math.min(5, RLP_BYTES.length - i)));
+            }
+        }
+        done.get(10L, TimeUnit.SECONDS);
+        assertEquals(expected, actual);
+
+        final Flow.Processor<ByteBuffer, RLPItem> truncated = RLPStreamDecoder.processor(RLP_STRICT, 1024);
+        final CompletableFuture<Void> failed = ((SubmissionPublisher<RLPItem>) truncated).consume(item -> {});
+        try (SubmissionPublisher<ByteBuffer> source = new SubmissionPublisher<>()) {
+            source.subscribe(truncated);
+            source.submit(ByteBuffer.wrap(RLP_BYTES, 0, 5));
+        }
+        final ExecutionException ee = assertThrows(ExecutionException.class, () -> failed.get(10L, TimeUnit.SECONDS));
+        assertEquals("stream ended with incomplete item: 5 bytes", ee.getCause().getMessage());
+    }
 }
@@ -0,0 +1,201 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.abi.Function;
+import com.esaulpaugh.headlong.abi.Tuple;
+import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Integers;
+import com.joemelsha.crypto.hash.Keccak;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransactionEnvelopeTest {
+
+    private static final Function FOO = new Function("foo(uint256,bool)");
+
+    @Test
+    public void testEip155Example() {
+        final byte[] raw = FastHex.decode("f86c098504a817c800825208943535353535353535353535353535353535353535880de0b6b3a76400008025a028ef61340bd939bc2195fe537567866003e1a15d3c71ff63e1590620aa636276a067cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1966a3b6d83");
+        final TransactionEnvelope tx = TransactionEnvelope.wrap(raw);
+        assertEquals(TransactionEnvelope.LEGACY, tx.type());
+        assertEquals(1L, tx.chainId());
+        assertEquals(9L, tx.nonce());
+        assertEquals(BigInteger.valueOf(20_000_000_000L), tx.maxFeePerGas());
+        assertEquals(tx.maxFeePerGas(), tx.maxPriorityFeePerGas());
+        assertEquals(21_000L, tx.gasLimit());
+        assertArrayEquals(FastHex.decode("3535353535353535353535353535353535353535"), tx.to());
+        assertEquals(new BigInteger("1000000000000000000"), tx.value());
+        assertEquals(0, tx.data().remaining());
+        assertNull(tx.accessList());
+        assertEquals(37L, tx.v());
+        assertEquals(new BigInteger("18515461264373351373200002665853028612451056578545711640558177340181847433846"), tx.r());
+        assertEquals(new BigInteger("46948507304638947509940763649030358759909902576025900602547168820602576006531"), tx.s());
+        assertEquals("daf5a779ae972f972197303d7b574746c7ef83eadac0f2791ad23db92e4c8e53", FastHex.encodeToString(tx.signingHash()));
+        assertArrayEquals(new Keccak(256).digest(raw), tx.hash());
+        assertArrayEquals(raw, tx.encoding());
+    }
+
+    @Test
+    public void testTypes() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final Keccak keccak = new Keccak(256);
+        for (int type = TransactionEnvelope.LEGACY; type <= TransactionEnvelope.SET_CODE; type++) {
+            for (int j = 0; j < 20; j++) {
+                final List<Object> unsigned = new ArrayList<>();
+                final long chainId = r.nextInt(3) == 0 ? 1L : r.nextLong() >>> r.nextInt(64);
+                if (type != TransactionEnvelope.LEGACY) {
+                    unsigned.add(Integers.toBytes(chainId));
+                }
+                final long nonce = r.nextLong() >>> r.nextInt(64);
+                unsigned.add(Integers.toBytes(nonce));
+                final BigInteger priorityFee = new BigInteger(r.nextInt(90), r);
+                unsigned.add(Integers.toBytesUnsigned(priorityFee));
+                final BigInteger maxFee = new BigInteger(r.nextInt(90), r);
+                if (type >= TransactionEnvelope.DYNAMIC_FEE) {
+                    unsigned.add(Integers.toBytesUnsigned(maxFee));
+                }
+                final long gas = r.nextInt(30_000_000);
+                unsigned.add(Integers.toBytes(gas));
+                final byte[] to = r.nextBoolean() ? TestUtils.randomBytes(20, r) : new byte[0];
+                unsigned.add(to);
+                final BigInteger value = new BigInteger(r.nextInt(256), r);
+                unsigned.add(Integers.toBytesUnsigned(value));
+                final Tuple args = Tuple.of(new BigInteger(255, r), r.nextBoolean());
+                final byte[] data = FOO.encodeCall(args).array();
+                unsigned.add(data);
+                final List<Object> accessList = List.of(List.of(TestUtils.randomBytes(20, r), List.of(TestUtils.randomBytes(32, r))));
+                if (type != TransactionEnvelope.LEGACY) {
+                    unsigned.add(accessList);
+                }
+                if (type == TransactionEnvelope.BLOB) {
+                    unsigned.add(Integers.toBytes(r.nextInt(1000)));
+                    unsigned.add(List.of(TestUtils.randomBytes(32, r), TestUtils.randomBytes(32, r)));
+                } else if (type == TransactionEnvelope.SET_CODE) {
+                    unsigned.add(List.of(List.of(Integers.toBytes(chainId), TestUtils.randomBytes(20, r), new byte[0], new byte[0], TestUtils.randomBytes(32, r), TestUtils.randomBytes(32, r))));
+                }
+                final byte[] expectedSigningPayload;
+                final long v;
+                if (type == TransactionEnvelope.LEGACY) {
+                    final boolean eip155 = r.nextBoolean();
+                    final List<Object> signed = new ArrayList<>(unsigned);
+                    if (eip155) {
+                        signed.addAll(List.of(Integers.toBytes(chainId), new byte[0], new byte[0]));
+                        v = chainId * 2 + 35 + r.nextInt(2);
+                    } else {
+                        v = 27 + r.nextInt(2);
+                    }
+                    expectedSigningPayload = RLPEncoder.list(signed);
+                } else {
+                    expectedSigningPayload = prepend(type, RLPEncoder.list(unsigned));
+                    v = r.nextInt(2);
+                }
+                final BigInteger sigR = new BigInteger(256, r);
+                final BigInteger sigS = new BigInteger(256, r);
+                final List<Object> fields = new ArrayList<>(unsigned);
+                fields.addAll(List.of(Integers.toBytes(v), Integers.toBytesUnsigned(sigR), Integers.toBytesUnsigned(sigS)));
+                final byte[] payload = RLPEncoder.list(fields);
+                final byte[] raw = type == TransactionEnvelope.LEGACY ? payload : prepend(type, payload);
+
+                final byte[] padded = new byte[raw.length + 10];
+                System.arraycopy(raw, 0, padded, 3, raw.length);
+                final TransactionEnvelope tx = TransactionEnvelope.wrap(padded, 3, raw.length);
+                assertEquals(type, tx.type());
+                assertEquals(fields.size(), tx.fieldCount());
+                assertEquals(type == TransactionEnvelope.LEGACY && v < 35 ? 0L : chainId, tx.chainId());
+                assertEquals(nonce, tx.nonce());
+                assertEquals(priorityFee, tx.maxPriorityFeePerGas());
+                assertEquals(type >= TransactionEnvelope.DYNAMIC_FEE ? maxFee : priorityFee, tx.maxFeePerGas());
+                assertEquals(gas, tx.gasLimit());
+                assertArrayEquals(to.length == 0 ? null : to, tx.to());
+                assertEquals(value, tx.value());
+                final ByteBuffer callData = tx.data();
+                assertTrue(callData.isReadOnly());
+                assertEquals(data.length, callData.remaining());
+                assertEquals(args, FOO.decodeCall(callData));
+                assertEquals(type == TransactionEnvelope.LEGACY ? null : RLPDecoder.RLP_STRICT.wrapList(RLPEncoder.list(accessList)), tx.accessList());
+                assertEquals(type == TransactionEnvelope.BLOB, tx.maxFeePerBlobGas() != null);
+                assertEquals(type == TransactionEnvelope.BLOB, tx.blobVersionedHashes() != null);
+                assertEquals(type == TransactionEnvelope.SET_CODE, tx.authorizationList() != null);
+                assertEquals(v, tx.v());
+                assertEquals(sigR, tx.r());
+                assertEquals(sigS, tx.s());
+                assertArrayEquals(raw, tx.encoding());
+                assertArrayEquals(new Keccak(256).digest(raw), tx.hash(keccak));
+                assertArrayEquals(new Keccak(256).digest(expectedSigningPayload), tx.signingHash(keccak));
+                assertArrayEquals(tx.signingHash(keccak), tx.signingHash());
+
+                if (type == TransactionEnvelope.BLOB) {
+                    final byte[] network = prepend(type, new RLPWriter()
+                            .beginList()
+                                .writeItem(RLPDecoder.RLP_STRICT.wrapList(payload))
+                                .beginList().writeString(TestUtils.randomBytes(64, r)).endList()
+                                .beginList().writeString(TestUtils.randomBytes(48, r)).endList()
+                                .beginList().writeString(TestUtils.randomBytes(48, r)).endList()
+                            .endList()
+                            .toByteArray());
+                    final TransactionEnvelope networkTx = TransactionEnvelope.wrap(network);
+                    assertTrue(networkTx.hasBlobSidecar());
+                    assertFalse(tx.hasBlobSidecar());
+                    assertArrayEquals(tx.hash(), networkTx.hash());
+                    assertArrayEquals(tx.signingHash(), networkTx.signingHash());
+                    assertEquals(tx.blobVersionedHashes(), networkTx.blobVersionedHashes());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMalformed() throws Throwable {
+        final byte[] legacy = FastHex.decode("f86c098504a817c800825208943535353535353535353535353535353535353535880de0b6b3a76400008025a028ef61340bd939bc2195fe537567866003e1a15d3c71ff63e1590620aa636276a067cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1966a3b6d83");
+        assertThrown(IllegalArgumentException.class, "empty transaction", () -> TransactionEnvelope.wrap(new byte[0]));
+        assertThrown(IllegalArgumentException.class, "unsupported transaction type: 5", () -> TransactionEnvelope.wrap(new byte[] { 5, (byte) 0xc0 }));
+        assertThrown(IllegalArgumentException.class, "missing payload", () -> TransactionEnvelope.wrap(new byte[] { 2 }));
+        assertThrown(IllegalArgumentException.class, "expected list @ 1", () -> TransactionEnvelope.wrap(new byte[] { 2, (byte) 0x80 }));
+        assertThrown(IllegalArgumentException.class, "trailing bytes @ 110", () -> TransactionEnvelope.wrap(Arrays.copyOf(legacy, legacy.length + 1)));
+        assertThrown(IllegalArgumentException.class, "type 2: expected 12 fields, found 2", () -> TransactionEnvelope.wrap(prepend(2, RLPEncoder.list((Object[]) new byte[2][0]))));
+        assertThrown(IllegalArgumentException.class, "type 0: expected 9 fields, found 10", () -> TransactionEnvelope.wrap(RLPEncoder.list((Object[]) new byte[10][0])));
+        final byte[][] fields = new byte[11][0];
+        assertThrown(IllegalArgumentException.class, "type 1 field 7: expected list @ 9", () -> TransactionEnvelope.wrap(prepend(1, RLPEncoder.list((Object[]) fields))));
+        assertThrown(IllegalArgumentException.class, "invalid v: 0", () -> TransactionEnvelope.wrap(RLPEncoder.list((Object[]) new byte[9][0])).signingHash());
+        final byte[][] legacyFields = new byte[9][0];
+        legacyFields[0] = new byte[] { 0, 1 };
+        assertThrown(IllegalArgumentException.class, "deserialized integers with leading zeroes are invalid; index: 2, len: 2", () -> TransactionEnvelope.wrap(RLPEncoder.list((Object[]) legacyFields)).nonce());
+        legacyFields[0] = new byte[9];
+        assertThrown(IllegalArgumentException.class, "field 0 exceeds 64 bits", () -> TransactionEnvelope.wrap(RLPEncoder.list((Object[]) legacyFields)).nonce());
+    }
+
+    private static byte[] prepend(int type, byte[] payload) {
+        final byte[] out = new byte[1 + payload.length];
+        out[0] = (byte) type;
+        System.arraycopy(payload, 0, out, 1, payload.length);
+        return out;
+    }
+}
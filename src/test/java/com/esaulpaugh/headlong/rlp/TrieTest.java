@@ -0,0 +1,216 @@
+/*
+   Copyright 2025 Evan Saulpaugh
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+package com.esaulpaugh.headlong.rlp;
+
+import com.esaulpaugh.headlong.TestUtils;
+import com.esaulpaugh.headlong.util.FastHex;
+import com.esaulpaugh.headlong.util.Integers;
+import com.esaulpaugh.headlong.util.Strings;
+import com.joemelsha.crypto.hash.Keccak;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.esaulpaugh.headlong.TestUtils.assertThrown;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TrieTest {
+
+    @Test
+    public void testKnownRoots() {
+        assertArrayEquals(new Keccak(256).digest(RLPEncoder.string(new byte[0])), TrieRootBuilder.EMPTY_ROOT);
+        assertArrayEquals(TrieRootBuilder.EMPTY_ROOT, new TrieRootBuilder().root());
+        assertArrayEquals(TrieRootBuilder.EMPTY_ROOT, TrieRootBuilder.orderedRoot(List.of()));
+
+        final byte[] singleItem = new TrieRootBuilder()
+                .put(Strings.decode("A", Strings.ASCII), Strings.decode("a".repeat(50), Strings.ASCII))
+                .root();
+        assertEquals("d23786fb4a010da3ce639d66d5e904a11dbc02746d1ce25029e53290cabf28ab", FastHex.encodeToString(singleItem));
+    }
+
+    @Test
+    public void testAgainstReference() {
+        final Random r = TestUtils.seededRandom();
+        final TrieRootBuilder builder = new TrieRootBuilder();
+        for (int i = 0; i < 300; i++) {
+            final TreeMap<String, byte[][]> sorted = new TreeMap<>();
+            final int n = r.nextInt(i < 100 ? 8 : 300);
+            final int keyLen = 1 + r.nextInt(r.nextBoolean() ? 3 : 32);
+            for (int j = 0; j < n; j++) {
+                final byte[] key = new byte[keyLen];
+                r.nextBytes(key);
+                if (r.nextBoolean()) {
+                    key[0] &= 0x0f; // crowd the first nibble
+                }
+                final byte[] value = new byte[1 + r.nextInt(r.nextBoolean() ? 4 : 100)];
+                r.nextBytes(value);
+                sorted.put(FastHex.encodeToString(key), new byte[][] { key, value });
+            }
+            builder.reset();
+            final List<byte[][]> entries = new ArrayList<>(sorted.values());
+            for (byte[][] e : entries) {
+                builder.put(e[0], e[1]);
+            }
+            assertEquals(entries.size(), builder.size());
+            assertArrayEquals(referenceRoot(entries), builder.root());
+        }
+    }
+
+    @Test
+    public void testOrderedRoot() {
+        final Random r = TestUtils.seededRandom();
+        for (int n : new int[] { 1, 2, 16, 127, 128, 129, 300, 1000 }) {
+            final List<byte[]> values = new ArrayList<>();
+            final TreeMap<String, byte[][]> sorted = new TreeMap<>();
+            for (int i = 0; i < n; i++) {
+                final byte[] value = new byte[1 + r.nextInt(120)];
+                r.nextBytes(value);
+                values.add(value);
+                final byte[] key = RLPEncoder.string(Integers.toBytes(i)); // zero is the empty string
+                sorted.put(FastHex.encodeToString(key), new byte[][] { key, value });
+            }
+            assertArrayEquals(referenceRoot(new ArrayList<>(sorted.values())), TrieRootBuilder.orderedRoot(values));
+        }
+    }
+
+    @Test
+    public void testBadInput() throws Throwable {
+        final TrieRootBuilder builder = new TrieRootBuilder().put(new byte[] { 5 }, new byte[] { 1 });
+        assertThrown(IllegalArgumentException.class, "keys must be inserted in increasing order", () -> builder.put(new byte[] { 4 }, new byte[] { 1 }));
+        assertThrown(IllegalArgumentException.class, "duplicate key", () -> builder.put(new byte[] { 5 }, new byte[] { 1 }));
+        assertThrown(IllegalArgumentException.class, "keys must be prefix-free", () -> builder.put(new byte[] { 5, 0 }, new byte[] { 1 }));
+        assertThrown(IllegalArgumentException.class, "empty value", () -> builder.put(new byte[] { 6 }, new byte[0]));
+    }
+
+    /* builds each node recursively from the full sorted entry list, per the Yellow Paper definition */
+    static byte[] referenceRoot(List<byte[][]> entries) {
+        if (entries.isEmpty()) {
+            return TrieRootBuilder.EMPTY_ROOT;
+        }
+        final List<byte[][]> nibbled = new ArrayList<>();
+        for (byte[][] e : entries) {
+            nibbled.add(new byte[][] { TrieRootBuilder.toNibbles(e[0]), e[1] });
+        }
+        return new Keccak(256).digest(encodeNode(nibbled, 0));
+    }
+
+    private static byte[] encodeNode(List<byte[][]> entries, int depth) {
+        final RLPWriter w = new RLPWriter().beginList();
+        final byte[] first = entries.get(0)[0];
+        if (entries.size() == 1) {
+            return w.writeString(hexPrefix(first, depth, first.length, true)).writeString(entries.get(0)[1]).endList().toByteArray();
+        }
+        final byte[] last = entries.get(entries.size() - 1)[0];
+        int common = depth;
+        while (first[common] == last[common]) {
+            common++;
+        }
+        if (common > depth) {
+            w.writeString(hexPrefix(first, depth, common, false));
+            return w.writeItem(ref(encodeNode(entries, common))).endList().toByteArray();
+        }
+        for (int nibble = 0; nibble < 16; nibble++) {
+            final List<byte[][]> group = new ArrayList<>();
+            for (byte[][] e : entries) {
+                if (e[0][depth] == nibble) {
+                    group.add(e);
+                }
+            }
+            if (group.isEmpty()) {
+                w.writeString(new byte[0]);
+            } else {
+                w.writeItem(ref(encodeNode(group, depth + 1)));
+            }
+        }
+        return w.writeString(new byte[0]).endList().toByteArray();
+    }
+
+    private static RLPItem ref(byte[] encoding) {
+        return RLPDecoder.RLP_STRICT.wrapItem(encoding.length < 32 ? encoding : RLPEncoder.string(new Keccak(256).digest(encoding)));
+    }
+
+    private static byte[] hexPrefix(byte[] nibbles, int from, int to, boolean leaf) {
+        final int len = to - from;
+        final byte[] out = new byte[len / 2 + 1];
+        int flag = leaf ? 2 : 0;
+        int i = from;
+        if (len % 2 == 1) {
+            out[0] = (byte) (((flag + 1) << 4) | nibbles[i++]);
+        } else {
+            out[0] = (byte) (flag << 4);
+        }
+        for (int j = 1; i < to; i += 2) {
+            out[j++] = (byte) (nibbles[i] * 16 + nibbles[i + 1]);
+        }
+        return out;
+    }
+
+    @Test
+    public void testParallelRoot() throws Throwable {
+        final Random r = TestUtils.seededRandom();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final TrieRootBuilder builder = new TrieRootBuilder();
+            for (int i = 0; i < 60; i++) {
+                final TreeMap<String, byte[][]> sorted = new TreeMap<>();
+                final int n = r.nextInt(i < 20 ? 4 : 2000);
+                final int keyLen = 1 + r.nextInt(32);
+                for (int j = 0; j < n; j++) {
+                    final byte[] key = new byte[keyLen];
+                    r.nextBytes(key);
+                    if (i % 3 == 0) {
+                        key[0] = 0x5a; // shared leading path, so the root is an extension
+                    }
+                    final byte[] value = new byte[1 + r.nextInt(80)];
+                    r.nextBytes(value);
+                    sorted.put(FastHex.encodeToString(key), new byte[][] { key, value });
+                }
+                final List<byte[]> keys = new ArrayList<>();
+                final List<byte[]> values = new ArrayList<>();
+                builder.reset();
+                for (byte[][] e : sorted.values()) {
+                    keys.add(e[0]);
+                    values.add(e[1]);
+                    builder.put(e[0], e[1]);
+                }
+                final byte[] expected = builder.root();
+                assertArrayEquals(expected, TrieRootBuilder.root(keys, values, pool));
+                assertArrayEquals(expected, TrieRootBuilder.root(keys, values, pool, 1));
+                assertArrayEquals(expected, TrieRootBuilder.root(keys, values, ForkJoinPool.commonPool(), 7));
+            }
+
+            final List<byte[]> txs = new ArrayList<>();
+            for (int i = 0; i < 1500; i++) {
+                txs.add(new byte[] { (byte) i, (byte) (i >>> 8), 1 });
+                if (i % 250 == 0 || i < 3) {
+                    assertArrayEquals(TrieRootBuilder.orderedRoot(txs), TrieRootBuilder.orderedRoot(txs, pool));
+                }
+            }
+            assertArrayEquals(TrieRootBuilder.EMPTY_ROOT, TrieRootBuilder.orderedRoot(List.of(), pool));
+            assertThrown(IllegalArgumentException.class, "keys must be inserted in increasing order",
+                    () -> TrieRootBuilder.root(List.of(new byte[] { 2 }, new byte[] { 1 }), List.of(new byte[1], new byte[1]), pool));
+            assertThrown(IllegalArgumentException.class, "keys and values differ in size: 1 != 0",
+                    () -> TrieRootBuilder.root(List.of(new byte[] { 2 }), List.of(), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}